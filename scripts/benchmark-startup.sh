@@ -0,0 +1,97 @@
+#!/usr/bin/env bash
+#
+# Benchmark de inicialização: tempo até a aplicação aceitar tráfego (readiness UP) e RSS por modo de execução.
+# A readiness só fica UP depois dos listeners de ApplicationReadyEvent (a liveness sobe antes deles).
+#
+#   ./mvnw -Pfast-startup package -DskipTests      (gera jar, AOT e target/cds/application.jsa)
+#   ./mvnw -Pnative native:compile                 (opcional, gera target/rh)
+#   scripts/benchmark-startup.sh [execucoes]
+#
+# Modos: jar (como hoje), aot, aot+cds e native (se target/rh existir).
+# Variáveis:
+#   PORTA     porta usada pela aplicação (padrão 18080)
+#   SEM_BANCO=1  sobe sem acessar o MySQL (ddl-auto=none, sem metadata JDBC e sem criar a
+#                sequência do log de alterações na subida) - útil em CI
+#   JAVA_OPTS opções extras para a JVM
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+EXECUCOES="${1:-5}"
+PORTA="${PORTA:-18080}"
+JAR="target/rh-0.0.1-SNAPSHOT.jar"
+CDS_DIR="target/cds"
+NATIVO="target/rh"
+URL="http://localhost:${PORTA}/actuator/health/readiness"
+
+ARGS_APP=("--server.port=${PORTA}")
+if [[ "${SEM_BANCO:-0}" == "1" ]]; then
+	ARGS_APP+=(
+		"--spring.jpa.hibernate.ddl-auto=none"
+		"--spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect"
+		"--spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false"
+		"--app.alteracoes.iniciar-sequencia=false"
+	)
+fi
+
+read -r -a JAVA_EXTRA <<< "${JAVA_OPTS:-}"
+
+medir() {
+	local inicio fim pid rss
+	inicio=$(date +%s%N)
+	"$@" > /dev/null 2>&1 &
+	pid=$!
+
+	# -f: só 2xx conta como resposta (404/503 continuam esperando)
+	until curl -fsS -o /dev/null "${URL}" 2> /dev/null; do
+		if ! kill -0 "${pid}" 2> /dev/null; then
+			echo "falhou"
+			return
+		fi
+		sleep 0.02
+	done
+	fim=$(date +%s%N)
+
+	rss=$(awk '/VmRSS/ {print $2}' "/proc/${pid}/status")
+	kill "${pid}"
+	wait "${pid}" 2> /dev/null || true
+
+	echo "$(( (fim - inicio) / 1000000 )) $(( rss / 1024 ))"
+}
+
+rodar() {
+	local modo="$1"
+	shift
+	local soma_ms=0 soma_rss=0 ok=0 resultado
+	for ((i = 1; i <= EXECUCOES; i++)); do
+		resultado=$(medir "$@")
+		if [[ "${resultado}" == "falhou" ]]; then
+			echo "${modo}: execução ${i} falhou (rode o comando manualmente para ver o log)" >&2
+			continue
+		fi
+		soma_ms=$(( soma_ms + ${resultado% *} ))
+		soma_rss=$(( soma_rss + ${resultado#* } ))
+		ok=$(( ok + 1 ))
+	done
+	if (( ok > 0 )); then
+		printf "%-10s %10d %10d %6d\n" "${modo}" $(( soma_ms / ok )) $(( soma_rss / ok )) "${ok}"
+	fi
+}
+
+[[ -f "${JAR}" ]] || { echo "Rode antes: ./mvnw -Pfast-startup package -DskipTests" >&2; exit 1; }
+
+printf "%-10s %10s %10s %6s\n" "modo" "pronto(ms)" "RSS(MB)" "n"
+
+rodar "jar" java "${JAVA_EXTRA[@]}" -jar "${JAR}" "${ARGS_APP[@]}"
+
+if [[ -f "${CDS_DIR}/application.jsa" ]]; then
+	rodar "aot" java "${JAVA_EXTRA[@]}" -Dspring.aot.enabled=true \
+		-jar "${CDS_DIR}/rh-0.0.1-SNAPSHOT.jar" "${ARGS_APP[@]}"
+	rodar "aot+cds" java "${JAVA_EXTRA[@]}" -XX:SharedArchiveFile="${CDS_DIR}/application.jsa" -Xlog:cds=off \
+		-Dspring.aot.enabled=true -jar "${CDS_DIR}/rh-0.0.1-SNAPSHOT.jar" "${ARGS_APP[@]}"
+fi
+
+if [[ -x "${NATIVO}" ]]; then
+	rodar "native" "${NATIVO}" "${ARGS_APP[@]}"
+fi
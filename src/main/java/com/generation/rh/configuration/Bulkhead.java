@@ -0,0 +1,121 @@
+package com.generation.rh.configuration;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Limita a concorrência de uma classe de endpoint pesado.
+ * - Até "permissoes" execuções simultâneas (semáforo justo, ordem de chegada; nem o caminho
+ *   rápido passa na frente de quem já está na fila).
+ * - Até "fila" requisições aguardando por no máximo "espera"; fila cheia ou espera
+ *   esgotada => BulkheadSaturadoException (429 + Retry-After).
+ * Métricas: rh.bulkhead.em.uso, rh.bulkhead.fila, rh.bulkhead.espera, rh.bulkhead.rejeicoes{motivo}.
+ */
+public class Bulkhead {
+
+	private final String nome;
+	private final Semaphore permissoes;
+	private final int maxFila;
+	private final Duration espera;
+	private final AtomicInteger naFila = new AtomicInteger();
+
+	private final Timer tempoEspera;
+	private final Counter rejeitadasFilaCheia;
+	private final Counter rejeitadasTimeout;
+
+	public Bulkhead(String nome, BulkheadProperties.Limite limite, MeterRegistry registry) {
+		this.nome = nome;
+		this.permissoes = new Semaphore(limite.permissoes(), true);
+		this.maxFila = limite.fila();
+		this.espera = limite.espera();
+
+		Gauge.builder("rh.bulkhead.em.uso", permissoes, p -> limite.permissoes() - p.availablePermits())
+			.tag("bulkhead", nome).register(registry);
+		Gauge.builder("rh.bulkhead.fila", naFila, AtomicInteger::get)
+			.tag("bulkhead", nome).register(registry);
+
+		this.tempoEspera = Timer.builder("rh.bulkhead.espera").tag("bulkhead", nome).register(registry);
+		this.rejeitadasFilaCheia = Counter.builder("rh.bulkhead.rejeicoes")
+			.tag("bulkhead", nome).tag("motivo", "fila_cheia").register(registry);
+		this.rejeitadasTimeout = Counter.builder("rh.bulkhead.rejeicoes")
+			.tag("bulkhead", nome).tag("motivo", "timeout").register(registry);
+	}
+
+	public <T> T executar(Supplier<T> tarefa) {
+		adquirir();
+		try {
+			return tarefa.get();
+		} finally {
+			liberar();
+		}
+	}
+
+	/**
+	 * Adquire uma permissão; quem chama deve garantir o liberar() (ex.: respostas em streaming).
+	 */
+	public void adquirir() {
+		// tryAcquire() sem tempo ignora a justiça do semáforo; com timeout 0 respeita a fila
+		if (tentarSemEsperar()) {
+			return;
+		}
+
+		if (naFila.incrementAndGet() > maxFila) {
+			naFila.decrementAndGet();
+			rejeitadasFilaCheia.increment();
+			throw new BulkheadSaturadoException(nome, retryAfter());
+		}
+
+		long inicio = System.nanoTime();
+		try {
+			if (!permissoes.tryAcquire(espera.toNanos(), TimeUnit.NANOSECONDS)) {
+				rejeitadasTimeout.increment();
+				throw new BulkheadSaturadoException(nome, retryAfter());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BulkheadSaturadoException(nome, retryAfter());
+		} finally {
+			naFila.decrementAndGet();
+			tempoEspera.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	public void liberar() {
+		permissoes.release();
+	}
+
+	/**
+	 * Liberação que só devolve a permissão na primeira chamada; para quando mais de um
+	 * caminho (fim do streaming, callback de conclusão/timeout) pode liberar a mesma permissão.
+	 */
+	public Runnable liberacaoUnica() {
+		AtomicBoolean liberada = new AtomicBoolean();
+		return () -> {
+			if (liberada.compareAndSet(false, true)) {
+				liberar();
+			}
+		};
+	}
+
+	private boolean tentarSemEsperar() {
+		try {
+			return permissoes.tryAcquire(0, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BulkheadSaturadoException(nome, retryAfter());
+		}
+	}
+
+	private long retryAfter() {
+		return Math.max(1, espera.toSeconds());
+	}
+}
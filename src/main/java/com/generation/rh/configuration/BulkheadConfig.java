@@ -0,0 +1,22 @@
+package com.generation.rh.configuration;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig {
+
+	@Bean
+	public Bulkhead bulkheadCalculo(BulkheadProperties properties, MeterRegistry registry) {
+		return new Bulkhead("calculo", properties.calculo(), registry);
+	}
+
+	@Bean
+	public Bulkhead bulkheadLote(BulkheadProperties properties, MeterRegistry registry) {
+		return new Bulkhead("lote", properties.lote(), registry);
+	}
+}
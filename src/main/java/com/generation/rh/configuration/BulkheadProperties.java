@@ -0,0 +1,22 @@
+package com.generation.rh.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limites de concorrência por classe de endpoint (app.bulkhead.*).
+ * - permissoes: execuções simultâneas
+ * - fila: requisições aguardando permissão; acima disso, 429 imediato
+ * - espera: tempo máximo na fila antes do 429
+ */
+@ConfigurationProperties("app.bulkhead")
+public record BulkheadProperties(
+
+		Limite calculo,
+		Limite lote) {
+
+	public record Limite(int permissoes, int fila, Duration espera) {
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.generation.rh.configuration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 429 com Retry-After quando o bulkhead não libera permissão.
+ */
+public class BulkheadSaturadoException extends ResponseStatusException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final long retryAfterSegundos;
+
+	public BulkheadSaturadoException(String nome, long retryAfterSegundos) {
+		super(HttpStatus.TOO_MANY_REQUESTS, "Muitas requisições de " + nome + " em andamento, tente novamente");
+		this.retryAfterSegundos = retryAfterSegundos;
+	}
+
+	@Override
+	public HttpHeaders getHeaders() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSegundos));
+		return headers;
+	}
+}
@@ -0,0 +1,107 @@
+package com.generation.rh.configuration;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Acompanha a saúde e o atraso da réplica.
+ * - Réplica fora do ar, atraso desconhecido ou acima de maxLag => leituras vão para o primário.
+ * - Começa disponível; uma falha de conexão no roteamento também a marca como indisponível.
+ */
+public class ReplicaMonitor {
+
+	private static final Logger log = LoggerFactory.getLogger(ReplicaMonitor.class);
+
+	private static final String COLUNA_LAG_MYSQL = "Seconds_Behind_Source";
+
+	private final DataSource replica;
+	private final ReplicaProperties properties;
+
+	private volatile boolean disponivel = true;
+
+	// -1 = desconhecido
+	private final AtomicLong lagSegundos = new AtomicLong(-1);
+
+	public ReplicaMonitor(DataSource replica, ReplicaProperties properties, MeterRegistry registry) {
+		this.replica = replica;
+		this.properties = properties;
+
+		Gauge.builder("rh.datasource.replica.disponivel", this, m -> m.disponivel ? 1 : 0).register(registry);
+		Gauge.builder("rh.datasource.replica.lag", lagSegundos, AtomicLong::get)
+			.baseUnit("seconds")
+			.register(registry);
+	}
+
+	public boolean isDisponivel() {
+		return disponivel;
+	}
+
+	public void marcarIndisponivel(SQLException causa) {
+		if (disponivel) {
+			log.warn("Réplica indisponível, leituras seguem para o primário: {}", causa.getMessage());
+		}
+		disponivel = false;
+	}
+
+	@Scheduled(fixedDelayString = "${app.datasource.replica.intervalo-verificacao-ms:5000}")
+	public void verificar() {
+		boolean estavaDisponivel = disponivel;
+		try (Connection conexao = replica.getConnection()) {
+			long lag = medirLag(conexao);
+			lagSegundos.set(lag);
+			disponivel = lag >= 0 && lag <= properties.maxLag().toSeconds();
+		} catch (SQLException | RuntimeException e) {
+			lagSegundos.set(-1);
+			disponivel = false;
+		}
+
+		if (!estavaDisponivel && disponivel) {
+			log.info("Réplica voltou a receber leituras (lag = {}s)", lagSegundos.get());
+		} else if (estavaDisponivel && !disponivel) {
+			log.warn("Réplica fora do roteamento (lag = {}s)", lagSegundos.get());
+		}
+	}
+
+	private long medirLag(Connection conexao) throws SQLException {
+		if (properties.lagQuery() == null || properties.lagQuery().isBlank()) {
+			return conexao.isValid(2) ? 0 : -1;
+		}
+
+		try (Statement stmt = conexao.createStatement(); ResultSet rs = stmt.executeQuery(properties.lagQuery())) {
+			if (!rs.next()) {
+				return -1;
+			}
+			Object valor = possuiColuna(rs, COLUNA_LAG_MYSQL) ? rs.getObject(COLUNA_LAG_MYSQL) : rs.getObject(1);
+			// null = replicação parada; valor não numérico = atraso desconhecido
+			if (valor == null) {
+				return -1;
+			}
+			try {
+				return Long.parseLong(valor.toString().trim());
+			} catch (NumberFormatException e) {
+				return -1;
+			}
+		}
+	}
+
+	private boolean possuiColuna(ResultSet rs, String coluna) throws SQLException {
+		for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
+			if (coluna.equalsIgnoreCase(rs.getMetaData().getColumnLabel(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
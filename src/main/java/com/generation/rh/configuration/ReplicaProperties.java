@@ -0,0 +1,32 @@
+package com.generation.rh.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propriedades da réplica de leitura (app.datasource.replica.*).
+ * O pool Hikari da réplica é ajustado em app.datasource.replica.hikari.*.
+ * O intervalo da verificação (app.datasource.replica.intervalo-verificacao-ms, padrão 5000)
+ * é lido direto pelo @Scheduled do ReplicaMonitor.
+ */
+@ConfigurationProperties("app.datasource.replica")
+public record ReplicaProperties(
+
+		String url,
+		String username,
+		String password,
+		String driverClassName,
+
+		// Atraso máximo aceito antes de mandar as leituras para o primário
+		@DefaultValue("5s") Duration maxLag,
+
+		// Consulta que devolve o atraso em segundos (ex.: SHOW REPLICA STATUS no MySQL).
+		// Em branco: só verifica se a réplica responde.
+		String lagQuery) {
+
+	public boolean habilitada() {
+		return url != null && !url.isBlank();
+	}
+}
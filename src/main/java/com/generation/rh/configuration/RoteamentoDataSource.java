@@ -0,0 +1,67 @@
+package com.generation.rh.configuration;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Escolhe o pool no momento em que a conexão é obtida:
+ * - transação readOnly + réplica disponível => réplica;
+ * - qualquer outro caso (escrita, sem transação, réplica atrasada/fora) => primário.
+ * Deve ficar atrás de um LazyConnectionDataSourceProxy, para que a conexão só seja
+ * pedida depois que o flag readOnly da transação já foi definido.
+ */
+public class RoteamentoDataSource extends AbstractDataSource {
+
+	private final DataSource primario;
+	private final DataSource replica;
+	private final ReplicaMonitor monitor;
+
+	private final Counter paraPrimario;
+	private final Counter paraReplica;
+	private final Counter fallback;
+
+	public RoteamentoDataSource(DataSource primario, DataSource replica, ReplicaMonitor monitor, MeterRegistry registry) {
+		this.primario = primario;
+		this.replica = replica;
+		this.monitor = monitor;
+
+		this.paraPrimario = Counter.builder("rh.datasource.roteamento").tag("destino", "primario").register(registry);
+		this.paraReplica = Counter.builder("rh.datasource.roteamento").tag("destino", "replica").register(registry);
+		this.fallback = Counter.builder("rh.datasource.roteamento").tag("destino", "fallback").register(registry);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			paraPrimario.increment();
+			return primario.getConnection();
+		}
+
+		if (monitor.isDisponivel()) {
+			try {
+				Connection conexao = replica.getConnection();
+				paraReplica.increment();
+				return conexao;
+			} catch (SQLException e) {
+				monitor.marcarIndisponivel(e);
+			}
+		}
+
+		fallback.increment();
+		return primario.getConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		throw new SQLFeatureNotSupportedException("Use getConnection() - as credenciais são definidas por pool");
+	}
+}
@@ -0,0 +1,85 @@
+package com.generation.rh.configuration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Roteamento leitura/escrita entre o MySQL primário e uma réplica.
+ * Só roteia quando app.datasource.replica.url está definido; sem ele (ou em branco) todas as
+ * conexões vão para o primário de spring.datasource.*.
+ *
+ * Os beans são sempre registrados e a decisão é tomada na inicialização (não com @Conditional*):
+ * no build AOT (-Pfast-startup) as condições são avaliadas uma vez só, e o artefato ficaria
+ * sem roteamento mesmo com a réplica configurada no pod.
+ *
+ * Pools separados (rh-primario / rh-replica) aparecem nas métricas hikaricp.* do actuator.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class RoteamentoDataSourceConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primarioDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("rh-primario");
+		return dataSource;
+	}
+
+	// null (sem bean) quando não há réplica; o pool é ajustado por app.datasource.replica.hikari.*
+	@Bean
+	public HikariDataSource replicaDataSource(ReplicaProperties properties, Environment environment) {
+		if (!properties.habilitada()) {
+			return null;
+		}
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setPoolName("rh-replica");
+		dataSource.setJdbcUrl(properties.url());
+		dataSource.setUsername(properties.username());
+		dataSource.setPassword(properties.password());
+		if (properties.driverClassName() != null) {
+			dataSource.setDriverClassName(properties.driverClassName());
+		}
+		// Falha rápido para cair no primário em vez de segurar a requisição
+		dataSource.setConnectionTimeout(2000);
+		dataSource.setInitializationFailTimeout(-1);
+		Binder.get(environment).bind("app.datasource.replica.hikari", Bindable.ofInstance(dataSource));
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaMonitor replicaMonitor(@Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replicaDataSource,
+			ReplicaProperties properties, MeterRegistry registry) {
+		HikariDataSource replica = replicaDataSource.getIfAvailable();
+		return replica != null ? new ReplicaMonitor(replica, properties, registry) : null;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(HikariDataSource primarioDataSource,
+			@Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replicaDataSource,
+			ObjectProvider<ReplicaMonitor> replicaMonitor, MeterRegistry registry) {
+		HikariDataSource replica = replicaDataSource.getIfAvailable();
+		if (replica == null) {
+			return new LazyConnectionDataSourceProxy(primarioDataSource);
+		}
+		return new LazyConnectionDataSourceProxy(
+				new RoteamentoDataSource(primarioDataSource, replica, replicaMonitor.getObject(), registry));
+	}
+}
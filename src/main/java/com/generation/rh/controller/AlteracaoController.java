@@ -0,0 +1,30 @@
+package com.generation.rh.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.generation.rh.model.Alteracao;
+import com.generation.rh.records.FeedAlteracoes;
+
+@RestController
+@RequestMapping("/alteracoes")
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+public class AlteracaoController {
+
+	@Autowired
+	private AlteracaoService alteracaoService;
+
+	@GetMapping
+	public ResponseEntity<FeedAlteracoes> getDesde(
+			@RequestParam(defaultValue = "0") long since,
+			@RequestParam(required = false) Alteracao.Entidade entidade,
+			@RequestParam(required = false) Integer limite){
+		return ResponseEntity.ok(alteracaoService.buscar(since, entidade, limite));
+	}
+
+}
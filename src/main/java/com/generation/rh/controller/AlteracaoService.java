@@ -0,0 +1,135 @@
+package com.generation.rh.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.generation.rh.model.Alteracao;
+import com.generation.rh.model.Alteracao.Entidade;
+import com.generation.rh.model.Alteracao.Operacao;
+import com.generation.rh.model.SequenciaAlteracao;
+import com.generation.rh.records.FeedAlteracoes;
+import com.generation.rh.repository.AlteracaoRepository;
+import com.generation.rh.repository.SequenciaAlteracaoRepository;
+
+/**
+ * Log de alterações (append-only) e feed incremental por cursor.
+ * - registrar() é chamado pelos controllers na mesma transação do save/delete (obrigatória).
+ * - O cursor é a sequência em ordem de commit: registrar() trava a linha de SequenciaAlteracao
+ *   até o commit, então quem registra depois só recebe um número depois que o anterior commitou.
+ *   Um leitor nunca vê a sequência N sem já ver todas as menores, e nada fica para trás do cursor.
+ *   Custo: as escritas serializam no trecho entre registrar() e o commit (fim da transação).
+ * - buscar() devolve as alterações com sequência > since, em ordem, e o próximo cursor.
+ * - Exclusões em cascata (departamento -> colaboradores) também geram registro.
+ */
+@Service
+public class AlteracaoService {
+
+	private static final Logger log = LoggerFactory.getLogger(AlteracaoService.class);
+
+	@Autowired
+	private AlteracaoRepository alteracaoRepository;
+
+	@Autowired
+	private SequenciaAlteracaoRepository sequenciaRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${app.alteracoes.iniciar-sequencia:true}")
+	private boolean iniciarSequenciaNaSubida;
+
+	private static final int LIMITE_PADRAO = 500;
+	private static final int LIMITE_MAXIMO = 5000;
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void registrar(Entidade entidade, Long entidadeId, Operacao operacao) {
+		registrar(entidade, List.of(entidadeId), operacao);
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void registrar(Entidade entidade, List<Long> entidadeIds, Operacao operacao) {
+		if (entidadeIds.isEmpty()) {
+			return;
+		}
+		long sequencia = travarSequencia().reservar(entidadeIds.size());
+
+		List<Alteracao> alteracoes = new ArrayList<>(entidadeIds.size());
+		for (Long id : entidadeIds) {
+			alteracoes.add(new Alteracao(sequencia++, entidade, id, operacao));
+		}
+		alteracaoRepository.saveAll(alteracoes);
+	}
+
+	// Cria o contador na subida (continuando do maior registro) para não disputar o INSERT depois.
+	// Sem banco na subida (ou app.alteracoes.iniciar-sequencia=false), fica para o primeiro registrar().
+	// A propriedade é lida aqui e não num @Conditional, que o build AOT avaliaria uma vez só.
+	@EventListener(ApplicationReadyEvent.class)
+	public void iniciarSequencia() {
+		if (!iniciarSequenciaNaSubida) {
+			return;
+		}
+		try {
+			criarSequenciaSeAusente();
+		} catch (DataAccessException | TransactionException e) {
+			log.warn("Sequência do log de alterações não iniciada: {}", e.getMessage());
+		}
+	}
+
+	@Transactional(readOnly = true)
+	public FeedAlteracoes buscar(long since, Entidade entidade, Integer limite) {
+		int tamanho = limite == null ? LIMITE_PADRAO : Math.max(1, Math.min(limite, LIMITE_MAXIMO));
+
+		// Busca um registro a mais só para saber se ainda há alterações depois desta página
+		Limit limit = Limit.of(tamanho + 1);
+		List<Alteracao> alteracoes = entidade == null
+			? alteracaoRepository.findBySequenciaGreaterThanOrderBySequenciaAsc(since, limit)
+			: alteracaoRepository.findByEntidadeAndSequenciaGreaterThanOrderBySequenciaAsc(entidade, since, limit);
+
+		boolean temMais = alteracoes.size() > tamanho;
+		if (temMais) {
+			alteracoes = alteracoes.subList(0, tamanho);
+		}
+
+		long proximoCursor = alteracoes.isEmpty() ? since : alteracoes.get(alteracoes.size() - 1).getSequencia();
+		return new FeedAlteracoes(alteracoes, proximoCursor, temMais);
+	}
+
+	private SequenciaAlteracao travarSequencia() {
+		// Verifica sem trava antes: FOR UPDATE numa linha inexistente trava o intervalo da chave
+		// e bloquearia o INSERT da criação, que roda em outra transação
+		if (!sequenciaRepository.existsById(SequenciaAlteracao.ID)) {
+			criarSequenciaSeAusente();
+		}
+		return sequenciaRepository.findByIdParaAtualizar(SequenciaAlteracao.ID)
+			.orElseThrow(() -> new IllegalStateException("Sequência do log de alterações não encontrada"));
+	}
+
+	// Transação própria: uma violação de chave aqui não marca a transação do chamador para rollback
+	private void criarSequenciaSeAusente() {
+		TransactionTemplate novaTransacao = new TransactionTemplate(transactionManager);
+		novaTransacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		try {
+			novaTransacao.executeWithoutResult(status -> sequenciaRepository.inserirSeAusente(SequenciaAlteracao.ID));
+		} catch (DataIntegrityViolationException e) {
+			// Outra instância criou a linha ao mesmo tempo: já existe
+			log.debug("Sequência do log de alterações já criada: {}", e.getMessage());
+		}
+	}
+}
@@ -2,6 +2,8 @@ package com.generation.rh.controller;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,8 +14,10 @@ import org.springframework.web.server.ResponseStatusException;
 
 import com.generation.rh.model.Colaborador;
 import com.generation.rh.records.CalculoSalario;
+import com.generation.rh.records.ColaboradorResumo;
 import com.generation.rh.records.Holerite;
 import com.generation.rh.records.Imposto;
+import com.generation.rh.records.TabelaImposto;
 import com.generation.rh.repository.ColaboradorRepository;
 
 
@@ -23,6 +27,9 @@ import com.generation.rh.repository.ColaboradorRepository;
  * - Precisão correta da alíquota (sem arredondar para 2 casas).
  * - Tratamento do teto do INSS (não zera acima do teto).
  * - IRRF sem dedução por dependentes.
+ * - Faixas de INSS/IRRF vêm do TabelaImpostoService, pela competência do cálculo
+ *   (sem competência informada, usa o mês atual em America/Sao_Paulo).
+ * - No lote a tabela é resolvida uma vez e passada para todos os holerites do ZIP.
  *
  * Convenções:
  * - Holerite.tHorasExtras = VALOR TOTAL em R$ das horas extras.
@@ -34,6 +41,9 @@ public class CalcularSalarioService {
     @Autowired
     private ColaboradorRepository colaboradorRepository;
 
+    @Autowired
+    private TabelaImpostoService tabelaImpostoService;
+
     // Dinheiro (centavos)
     private static final int SCALE = 2;
 
@@ -43,36 +53,42 @@ public class CalcularSalarioService {
     // Multiplicador para hora extra (50% de acréscimo = 1.5x)
     private static final BigDecimal PERCENTUAL_HORA_EXTRA = new BigDecimal("1.5");
 
-    // Tabela INSS 2025: (limite, aliquota %, deducao)
-    private static final List<Imposto> FAIXAS_INSS = List.of(
-        new Imposto(1518.00,  7.5,   0.00),
-        new Imposto(2793.87,  9.0,  28.80),
-        new Imposto(4190.82, 12.0, 135.57),
-        new Imposto(8381.66, 14.0, 259.17) // teto
-    );
-
-    // Tabela IRRF 2025: (limite, aliquota %, deducao)
-    private static final List<Imposto> FAIXAS_IRRF = List.of(
-        new Imposto(2352.00,          0.0,   0.00),
-        new Imposto(2826.65,          7.5, 176.15),
-        new Imposto(3751.05,         15.0, 404.78),
-        new Imposto(4664.68,         22.5, 694.54),
-        new Imposto(Double.MAX_VALUE, 27.5, 917.24)
-    );
+    private static final BigDecimal CEM = new BigDecimal("100");
+
+    // Mesmo fuso configurado para o JDBC e o Jackson (application.properties)
+    public static final ZoneId FUSO_HORARIO = ZoneId.of("America/Sao_Paulo");
 
     /**
      * Calcula o holerite do colaborador.
      *
      * @param id            ID do colaborador
-     * @param dadosSalario  tHorasExtras (quantidade), valorHora (opcional), descontos (opcional)
+     * @param dadosSalario  tHorasExtras (quantidade), valorHora (opcional), descontos (opcional),
+     *                      competencia (opcional)
      * @return Holerite preenchido
      */
     public Holerite calcularSalario(Long id, CalculoSalario dadosSalario) {
         // 1) Colaborador
         Colaborador colaborador = buscarColaborador(id);
 
+        // Tabelas vigentes na competência (uma referência, mesmo se houver recarga durante o cálculo)
+        YearMonth competencia = Optional.ofNullable(dadosSalario.competencia())
+                                        .orElseGet(() -> YearMonth.now(FUSO_HORARIO));
+        TabelaImposto tabela = tabelaImpostoService.buscar(competencia);
+
+        return calcular(colaborador.getSalario(), colaborador.getHorasMensais(), dadosSalario, tabela);
+    }
+
+    /**
+     * Calcula o holerite a partir da projeção (geração em lote, sem entidades gerenciadas),
+     * com a tabela de impostos já resolvida para o lote inteiro.
+     */
+    public Holerite calcularSalario(ColaboradorResumo colaborador, CalculoSalario dadosSalario, TabelaImposto tabela) {
+        return calcular(colaborador.salario(), Colaborador.HORAS_MENSAIS, dadosSalario, tabela);
+    }
+
+    private Holerite calcular(BigDecimal salario, int horasMensais, CalculoSalario dadosSalario, TabelaImposto tabela) {
         // 2) Salário/hora (prioriza o valor enviado; senão calcula salario/horasMensais)
-        BigDecimal salarioPorHora = obterSalarioHora(colaborador, dadosSalario);
+        BigDecimal salarioPorHora = obterSalarioHora(salario, horasMensais, dadosSalario);
 
         // 3) Valor unidade da hora extra (1,5x) e VALOR TOTAL das HEs
         BigDecimal valorHoraExtra = salarioPorHora.multiply(PERCENTUAL_HORA_EXTRA)
@@ -83,13 +99,13 @@ public class CalcularSalarioService {
                 .setScale(SCALE, RoundingMode.HALF_UP);
 
         // 4) Base bruta considerada para impostos = salário base + valor total de HE
-        BigDecimal salarioBrutoComHE = colaborador.getSalario()
+        BigDecimal salarioBrutoComHE = salario
                 .add(totalHEValor)
                 .setScale(SCALE, RoundingMode.HALF_UP);
 
         // 5) Descontos legais (sem dependentes no IRRF)
-        BigDecimal descontoINSS = calcularINSS(salarioBrutoComHE);
-        BigDecimal descontoIRRF = calcularIRRF(salarioBrutoComHE, descontoINSS);
+        BigDecimal descontoINSS = calcularINSS(salarioBrutoComHE, tabela.inss());
+        BigDecimal descontoIRRF = calcularIRRF(salarioBrutoComHE, descontoINSS, tabela.irrf());
 
         // 6) Descontos adicionais (nulos -> 0)
         BigDecimal descontosAdicionais = Optional.ofNullable(dadosSalario.descontos())
@@ -105,8 +121,8 @@ public class CalcularSalarioService {
 
         // 8) Montagem do Holerite
         return new Holerite(
-            colaborador.getSalario().setScale(SCALE, RoundingMode.HALF_UP), // salário base (sem HE)
-            obterDiasTrabalhados(colaborador),                                // ajuste conforme sua regra
+            salario.setScale(SCALE, RoundingMode.HALF_UP),                    // salário base (sem HE)
+            obterDiasTrabalhados(),                                           // ajuste conforme sua regra
             valorHoraExtra,                                                   // valor de 1h extra
             totalHEValor,                                                     // VALOR total em R$ de HEs
             descontoINSS,
@@ -123,35 +139,34 @@ public class CalcularSalarioService {
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Colaborador não encontrado"));
     }
 
-    private BigDecimal obterSalarioHora(Colaborador colaborador, CalculoSalario dados) {
+    private BigDecimal obterSalarioHora(BigDecimal salario, int horasMensais, CalculoSalario dados) {
         if (dados.valorHora() != null) {
             return dados.valorHora().setScale(SCALE, RoundingMode.HALF_UP);
         }
-        return calcularSalarioPorHora(colaborador);
+        return calcularSalarioPorHora(salario, horasMensais);
     }
 
-    private BigDecimal calcularSalarioPorHora(Colaborador colaborador) {
-        return colaborador.getSalario()
-            .divide(new BigDecimal(colaborador.getHorasMensais()), SCALE, RoundingMode.HALF_UP);
+    private BigDecimal calcularSalarioPorHora(BigDecimal salario, int horasMensais) {
+        return salario.divide(BigDecimal.valueOf(horasMensais), SCALE, RoundingMode.HALF_UP);
     }
 
     /**
      * INSS com teto: se a base excede a última faixa, aplica a última faixa sobre o teto.
      */
-    private BigDecimal calcularINSS(BigDecimal salarioBruto) {
-        return buscarFaixaAplicavelComTeto(salarioBruto, FAIXAS_INSS);
+    private BigDecimal calcularINSS(BigDecimal salarioBruto, List<Imposto> faixas) {
+        return buscarFaixaAplicavelComTeto(salarioBruto, faixas);
     }
 
     /**
      * IRRF sem dependentes.
      * Base = salárioBruto − INSS.
      */
-    private BigDecimal calcularIRRF(BigDecimal salarioBruto, BigDecimal descontoINSS) {
+    private BigDecimal calcularIRRF(BigDecimal salarioBruto, BigDecimal descontoINSS, List<Imposto> faixas) {
         BigDecimal baseDeCalculo = salarioBruto
             .subtract(descontoINSS)
             .setScale(SCALE, RoundingMode.HALF_UP);
 
-        return buscarFaixaAplicavel(baseDeCalculo, FAIXAS_IRRF);
+        return buscarFaixaAplicavel(baseDeCalculo, faixas);
     }
 
     /**
@@ -159,11 +174,11 @@ public class CalcularSalarioService {
      */
     private BigDecimal buscarFaixaAplicavel(BigDecimal valor, List<Imposto> faixas) {
         for (Imposto faixa : faixas) {
-            if (valor.compareTo(BigDecimal.valueOf(faixa.limite())) <= 0) {
+            if (faixa.limite() == null || valor.compareTo(faixa.limite()) <= 0) {
                 return aplicarFaixa(valor, faixa);
             }
         }
-        // Segurança (IRRF tem MAX_VALUE, então não deve cair aqui)
+        // Segurança (a última faixa do IRRF é sem limite, então não deve cair aqui)
         return BigDecimal.ZERO.setScale(SCALE, RoundingMode.HALF_UP);
     }
 
@@ -172,13 +187,13 @@ public class CalcularSalarioService {
      */
     private BigDecimal buscarFaixaAplicavelComTeto(BigDecimal valor, List<Imposto> faixas) {
         for (Imposto faixa : faixas) {
-            if (valor.compareTo(BigDecimal.valueOf(faixa.limite())) <= 0) {
+            if (valor.compareTo(faixa.limite()) <= 0) {
                 return aplicarFaixa(valor, faixa);
             }
         }
         // Acima do teto: aplica a última faixa sobre o próprio teto
         Imposto ultima = faixas.get(faixas.size() - 1);
-        BigDecimal teto = BigDecimal.valueOf(ultima.limite()).setScale(SCALE, RoundingMode.HALF_UP);
+        BigDecimal teto = ultima.limite().setScale(SCALE, RoundingMode.HALF_UP);
         return aplicarFaixa(teto, ultima);
     }
 
@@ -187,19 +202,18 @@ public class CalcularSalarioService {
      * Resultado monetário arredondado para 2 casas. Nunca negativo.
      */
     private BigDecimal aplicarFaixa(BigDecimal base, Imposto faixa) {
-        BigDecimal aliquotaDecimal = BigDecimal
-            .valueOf(faixa.aliquota())
-            .divide(new BigDecimal("100"), SCALE_PERCENT, RoundingMode.HALF_UP);
+        BigDecimal aliquotaDecimal = faixa.aliquota()
+            .divide(CEM, SCALE_PERCENT, RoundingMode.HALF_UP);
 
         BigDecimal valorAliquota = base.multiply(aliquotaDecimal).setScale(SCALE, RoundingMode.HALF_UP);
-        BigDecimal desconto = valorAliquota.subtract(BigDecimal.valueOf(faixa.deducao()));
+        BigDecimal desconto = valorAliquota.subtract(faixa.deducao());
         return desconto.max(BigDecimal.ZERO).setScale(SCALE, RoundingMode.HALF_UP);
     }
 
     /**
      * Ajuste conforme seu modelo (se existir no Colaborador, use o getter real).
      */
-    private int obterDiasTrabalhados(Colaborador c) {
+    private int obterDiasTrabalhados() {
         return 30;
     }
 }
@@ -0,0 +1,125 @@
+package com.generation.rh.controller;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Sparse fieldsets (?fields=nome,cargo,departamento.nome) nas listagens.
+ * - Só as colunas pedidas entram no SELECT (consulta de tuplas, sem carregar a entidade).
+ * - Cada controller informa os campos permitidos; qualquer outro devolve 400.
+ * - "departamento" sozinho expande para todos os campos permitidos de departamento.
+ * - Campos com ponto viram objetos aninhados na resposta; o id é sempre incluído.
+ */
+@Service
+public class CamposService {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	public static final Set<String> CAMPOS_COLABORADOR = Set.of(
+		"id", "nome", "email", "dtNasc", "cargo", "salario", "foto",
+		"departamento.id", "departamento.nome", "departamento.icone"
+	);
+
+	public static final Set<String> CAMPOS_DEPARTAMENTO = Set.of("id", "nome", "icone");
+
+	// senha nunca é selecionável
+	public static final Set<String> CAMPOS_USUARIO = Set.of("id", "nome", "email", "foto");
+
+	@Transactional(readOnly = true)
+	public List<Map<String, Object>> listar(Class<?> entidade, Set<String> permitidos, String fields) {
+		List<String> campos = resolverCampos(permitidos, fields);
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<?> root = query.from(entidade);
+
+		// LEFT JOIN para não descartar linhas sem associação (ex.: colaborador sem departamento)
+		Map<String, From<?, ?>> joins = new HashMap<>();
+		List<Path<?>> selecao = new ArrayList<>(campos.size());
+		for (String campo : campos) {
+			selecao.add(caminho(root, joins, campo));
+		}
+
+		query.multiselect(new ArrayList<>(selecao)).orderBy(cb.asc(root.get("id")));
+
+		return entityManager.createQuery(query).getResultStream()
+			.map(tupla -> montar(campos, tupla))
+			.toList();
+	}
+
+	// =================== Auxiliares ===================
+
+	private List<String> resolverCampos(Set<String> permitidos, String fields) {
+		Set<String> campos = new LinkedHashSet<>();
+		campos.add("id");
+
+		for (String bruto : fields.split(",")) {
+			String campo = bruto.trim();
+			if (campo.isEmpty()) {
+				continue;
+			}
+			if (permitidos.contains(campo)) {
+				campos.add(campo);
+				continue;
+			}
+			List<String> filhos = permitidos.stream()
+				.filter(p -> p.startsWith(campo + "."))
+				.sorted()
+				.toList();
+			if (filhos.isEmpty()) {
+				throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Campo inválido em fields: " + campo);
+			}
+			campos.addAll(filhos);
+		}
+		return new ArrayList<>(campos);
+	}
+
+	private Path<?> caminho(Root<?> root, Map<String, From<?, ?>> joins, String campo) {
+		int ponto = campo.indexOf('.');
+		if (ponto < 0) {
+			return root.get(campo);
+		}
+		String associacao = campo.substring(0, ponto);
+		From<?, ?> join = joins.computeIfAbsent(associacao, a -> root.join(a, JoinType.LEFT));
+		return join.get(campo.substring(ponto + 1));
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> montar(List<String> campos, Tuple tupla) {
+		Map<String, Object> linha = new LinkedHashMap<>();
+		for (int i = 0; i < campos.size(); i++) {
+			String campo = campos.get(i);
+			Object valor = tupla.get(i);
+			int ponto = campo.indexOf('.');
+			if (ponto < 0) {
+				linha.put(campo, valor);
+				continue;
+			}
+			Map<String, Object> aninhado = (Map<String, Object>) linha
+				.computeIfAbsent(campo.substring(0, ponto), k -> new LinkedHashMap<String, Object>());
+			aninhado.put(campo.substring(ponto + 1), valor);
+		}
+		return linha;
+	}
+}
@@ -1,10 +1,17 @@
 package com.generation.rh.controller;
 
+import java.time.YearMonth;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,12 +20,23 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.generation.rh.configuration.Bulkhead;
+import com.generation.rh.model.Alteracao.Entidade;
+import com.generation.rh.model.Alteracao.Operacao;
 import com.generation.rh.model.Colaborador;
 import com.generation.rh.records.CalculoSalario;
+import com.generation.rh.records.ColaboradorResumo;
+import com.generation.rh.records.FiltroColaborador;
 import com.generation.rh.records.Holerite;
+import com.generation.rh.records.ResultadoFiltro;
 import com.generation.rh.repository.ColaboradorRepository;
 
 import jakarta.validation.Valid;
@@ -34,12 +52,38 @@ public class ColaboradorController {
 	@Autowired
 	private CalcularSalarioService calcularSalarioService;
 	
+	@Autowired
+	private FiltroColaboradorService filtroColaboradorService;
+	
+	@Autowired
+	private HoleriteLoteService holeriteLoteService;
+	
+	@Autowired
+	private AlteracaoService alteracaoService;
+	
+	@Autowired
+	private CamposService camposService;
+	
+	@Autowired
+	private TabelaImpostoService tabelaImpostoService;
+	
+	@Autowired
+	private Bulkhead bulkheadCalculo;
+	
+	@Autowired
+	private Bulkhead bulkheadLote;
+	
 	@GetMapping
-	public ResponseEntity<List<Colaborador>> getAll(){
-		return ResponseEntity.ok(colaboradorRepository.findAll());
+	@Transactional(readOnly = true)
+	public ResponseEntity<List<?>> getAll(@RequestParam(required = false) String fields){
+		if (fields != null) {
+			return ResponseEntity.ok(camposService.listar(Colaborador.class, CamposService.CAMPOS_COLABORADOR, fields));
+		}
+		return ResponseEntity.ok(colaboradorRepository.findAllResumo());
 	}
 	
 	@GetMapping("/{id}")
+	@Transactional(readOnly = true)
 	public ResponseEntity<Colaborador> getById(@PathVariable Long id){
 		return colaboradorRepository.findById(id)
 				.map(resposta -> ResponseEntity.ok(resposta))
@@ -47,27 +91,47 @@ public class ColaboradorController {
 	}
 	
 	@GetMapping("/nome/{nome}")
-	public ResponseEntity<List<Colaborador>> getByNome(@PathVariable String nome){
-		return ResponseEntity.ok(colaboradorRepository.findAllByNomeContainingIgnoreCase(nome));
+	@Transactional(readOnly = true)
+	public ResponseEntity<List<ColaboradorResumo>> getByNome(@PathVariable String nome){
+		return ResponseEntity.ok(colaboradorRepository.findAllResumoByNome(nome));
+	}
+	
+	@GetMapping("/filtro")
+	public ResponseEntity<ResultadoFiltro<ColaboradorResumo>> getByFiltro(
+			FiltroColaborador filtro,
+			@PageableDefault(size = 20, sort = "nome") Pageable pageable){
+		return ResponseEntity.ok(filtroColaboradorService.filtrar(filtro, pageable));
 	}
 	
 	@PostMapping
+	@Transactional
 	public ResponseEntity<Colaborador> post(@Valid @RequestBody Colaborador colaborador){
+		Colaborador salvo = colaboradorRepository.save(colaborador);
+		alteracaoService.registrar(Entidade.COLABORADOR, salvo.getId(), Operacao.INSERT);
 		return ResponseEntity.status(HttpStatus.CREATED)
-				.body(colaboradorRepository.save(colaborador));
+				.body(salvo);
 	}
 	
 	@PutMapping
+	@Transactional
 	public ResponseEntity<Colaborador> put(@Valid @RequestBody Colaborador colaborador){
 		return colaboradorRepository.findById(colaborador.getId())
-				.map(resposta -> ResponseEntity.ok().body(colaboradorRepository.save(colaborador)))
+				.map(resposta -> {
+					Colaborador salvo = colaboradorRepository.save(colaborador);
+					alteracaoService.registrar(Entidade.COLABORADOR, salvo.getId(), Operacao.UPDATE);
+					return ResponseEntity.ok().body(salvo);
+				})
 				.orElse(ResponseEntity.notFound().build());
 	}
 	
 	@ResponseStatus(HttpStatus.NO_CONTENT)
 	@DeleteMapping("/{id}")
+	@Transactional
 	public void delete(@PathVariable Long id) {
-		colaboradorRepository.deleteById(id);
+		if (colaboradorRepository.existsById(id)) {
+			colaboradorRepository.deleteById(id);
+			alteracaoService.registrar(Entidade.COLABORADOR, id, Operacao.DELETE);
+		}
 	}
 	
 	@PostMapping("/calcularsalario/{id}")
@@ -75,10 +139,50 @@ public class ColaboradorController {
 			@PathVariable Long id,
 			@RequestBody CalculoSalario dadosSalario) {
 
-		Holerite holerite = calcularSalarioService.calcularSalario(id, dadosSalario);
+		Holerite holerite = bulkheadCalculo.executar(() -> calcularSalarioService.calcularSalario(id, dadosSalario));
 		return ResponseEntity.status(HttpStatus.OK).body(holerite);
 	}
 	
+	@PostMapping("/holerites/lote")
+	public ResponseEntity<StreamingResponseBody> gerarHolerites(
+			@RequestParam(required = false) Long departamento,
+			@RequestParam(required = false) YearMonth competencia,
+			@RequestBody(required = false) CalculoSalario dadosSalario,
+			NativeWebRequest request) {
+
+		YearMonth mes = competencia != null ? competencia : YearMonth.now(CalcularSalarioService.FUSO_HORARIO);
+		CalculoSalario dados = dadosSalario != null
+				? new CalculoSalario(dadosSalario.tHorasExtras(), dadosSalario.valorHora(), dadosSalario.descontos(), mes)
+				: new CalculoSalario(0, null, null, mes);
+
+		// Competência sem tabela de impostos => 400 agora, antes de ocupar o bulkhead e abrir o ZIP
+		tabelaImpostoService.buscar(mes);
+
+		// A permissão é liberada quando o streaming do ZIP termina, ou na conclusão da requisição
+		// assíncrona se o corpo nem chegar a rodar (executor recusou a tarefa, timeout antes do início)
+		bulkheadLote.adquirir();
+		Runnable liberar = bulkheadLote.liberacaoUnica();
+		WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor("bulkheadLote",
+				new CallableProcessingInterceptor() {
+					@Override
+					public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+						liberar.run();
+					}
+				});
+		StreamingResponseBody corpo = saida -> {
+			try {
+				holeriteLoteService.gerarZip(departamento, mes, dados, saida);
+			} finally {
+				liberar.run();
+			}
+		};
+
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType("application/zip"))
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"holerites-" + mes + ".zip\"")
+				.body(corpo);
+	}
+	
 	
 	
 }
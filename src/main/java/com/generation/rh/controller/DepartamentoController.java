@@ -1,10 +1,12 @@
 package com.generation.rh.controller;
+import com.generation.rh.repository.ColaboradorRepository;
 import com.generation.rh.repository.DepartamentoRepository;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,9 +15,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.generation.rh.model.Alteracao.Entidade;
+import com.generation.rh.model.Alteracao.Operacao;
 import com.generation.rh.model.Departamento;
 
 
@@ -27,12 +32,31 @@ public class DepartamentoController {
 	@Autowired
 	private DepartamentoRepository departamentoRepository;
 	
+	@Autowired
+	private ColaboradorRepository colaboradorRepository;
+	
+	@Autowired
+	private AlteracaoService alteracaoService;
+	
+	@Autowired
+	private CamposService camposService;
+	
+	// Por padrão só id, nome e icone; ?colaboradores=true devolve também o array colaborador
 	@GetMapping
-	public ResponseEntity<List<Departamento>> getAll(){
-		return ResponseEntity.ok(departamentoRepository.findAll());
+	@Transactional(readOnly = true)
+	public ResponseEntity<List<?>> getAll(@RequestParam(required = false) String fields,
+			@RequestParam(defaultValue = "false") boolean colaboradores){
+		if (fields != null) {
+			return ResponseEntity.ok(camposService.listar(Departamento.class, CamposService.CAMPOS_DEPARTAMENTO, fields));
+		}
+		if (colaboradores) {
+			return ResponseEntity.ok(departamentoRepository.findAllComColaboradores());
+		}
+		return ResponseEntity.ok(departamentoRepository.findAllResumo());
 	}
 	
 	@GetMapping("/{id}")
+	@Transactional(readOnly = true)
 	public ResponseEntity<Departamento> getById(@PathVariable Long id){
 		return departamentoRepository.findById(id)
 				.map(resposta -> ResponseEntity.ok(resposta))
@@ -40,27 +64,47 @@ public class DepartamentoController {
 	}
 	
 	@GetMapping("/nome/{nome}")
-	public ResponseEntity<List<Departamento>> getByNome(@PathVariable String nome){
-		return ResponseEntity.ok(departamentoRepository.findAllByNomeContainingIgnoreCase(nome));
+	@Transactional(readOnly = true)
+	public ResponseEntity<List<?>> getByNome(@PathVariable String nome,
+			@RequestParam(defaultValue = "false") boolean colaboradores){
+		if (colaboradores) {
+			return ResponseEntity.ok(departamentoRepository.findAllComColaboradoresByNome(nome));
+		}
+		return ResponseEntity.ok(departamentoRepository.findAllResumoByNome(nome));
 	}
 	
 	@PostMapping
+	@Transactional
 	public ResponseEntity<Departamento> post(@RequestBody Departamento departamento){
+		Departamento salvo = departamentoRepository.save(departamento);
+		alteracaoService.registrar(Entidade.DEPARTAMENTO, salvo.getId(), Operacao.INSERT);
 		return ResponseEntity.status(HttpStatus.CREATED)
-				.body(departamentoRepository.save(departamento));
+				.body(salvo);
 	}
 	
 	@PutMapping
+	@Transactional
 	public ResponseEntity<Departamento> put(@RequestBody Departamento departamento){
 		return departamentoRepository.findById(departamento.getId())
-				.map(resposta -> ResponseEntity.ok().body(departamentoRepository.save(departamento)))
+				.map(resposta -> {
+					Departamento salvo = departamentoRepository.save(departamento);
+					alteracaoService.registrar(Entidade.DEPARTAMENTO, salvo.getId(), Operacao.UPDATE);
+					return ResponseEntity.ok().body(salvo);
+				})
 				.orElse(ResponseEntity.notFound().build());
 	}
 	
 	@DeleteMapping("/{id}")
 	@ResponseStatus(HttpStatus.NO_CONTENT)
+	@Transactional
 	public void delete(@PathVariable Long id){
-		departamentoRepository.deleteById(id);
+		if (departamentoRepository.existsById(id)) {
+			// O CascadeType.REMOVE apaga os colaboradores junto: registra a exclusão deles também
+			List<Long> colaboradores = colaboradorRepository.findIdsByDepartamentoId(id);
+			departamentoRepository.deleteById(id);
+			alteracaoService.registrar(Entidade.COLABORADOR, colaboradores, Operacao.DELETE);
+			alteracaoService.registrar(Entidade.DEPARTAMENTO, id, Operacao.DELETE);
+		}
 	}
 
 		
@@ -0,0 +1,137 @@
+package com.generation.rh.controller;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.generation.rh.model.Colaborador;
+import com.generation.rh.model.Departamento;
+import com.generation.rh.records.ColaboradorResumo;
+import com.generation.rh.records.Faceta;
+import com.generation.rh.records.FiltroColaborador;
+import com.generation.rh.records.ResultadoFiltro;
+import com.generation.rh.repository.ColaboradorRepository;
+import com.generation.rh.repository.ColaboradorSpecification;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Service do filtro combinado de colaboradores.
+ * - A filtragem e a paginação são feitas no banco (Specification), lendo só as colunas de
+ *   ColaboradorResumo (mesma projeção de GET /colaboradores).
+ * - As facetas por departamento e por cargo usam o mesmo filtro agrupado com COUNT, mas sem
+ *   o critério da própria faceta: com departamento=X a faceta de departamentos ainda mostra
+ *   quantos resultados cada um dos outros departamentos daria.
+ * - Só campos de CAMPOS_ORDENACAO aceitos em sort; os demais dão 400.
+ */
+@Service
+public class FiltroColaboradorService {
+
+	static final Set<String> CAMPOS_ORDENACAO = Set.of("id", "nome", "cargo", "salario", "dtNasc");
+
+	@Autowired
+	private ColaboradorRepository colaboradorRepository;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Transactional(readOnly = true)
+	public ResultadoFiltro<ColaboradorResumo> filtrar(FiltroColaborador filtro, Pageable pageable) {
+		validarOrdenacao(pageable.getSort());
+		Specification<Colaborador> spec = ColaboradorSpecification.filtrar(filtro);
+
+		Page<ColaboradorResumo> pagina = PageableExecutionUtils.getPage(buscarResumos(spec, pageable), pageable,
+			() -> colaboradorRepository.count(spec));
+
+		return new ResultadoFiltro<>(
+			pagina.getContent(),
+			pagina.getNumber(),
+			pagina.getSize(),
+			pagina.getTotalElements(),
+			pagina.getTotalPages(),
+			contarPorDepartamento(ColaboradorSpecification.filtrar(filtro.semDepartamento())),
+			contarPorCargo(ColaboradorSpecification.filtrar(filtro.semCargo()))
+		);
+	}
+
+	private List<ColaboradorResumo> buscarResumos(Specification<Colaborador> spec, Pageable pageable) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<ColaboradorResumo> query = cb.createQuery(ColaboradorResumo.class);
+		Root<Colaborador> root = query.from(Colaborador.class);
+		Join<Colaborador, Departamento> departamento = root.join("departamento", JoinType.LEFT);
+
+		query.select(cb.construct(ColaboradorResumo.class,
+				root.get("id"), root.get("nome"), root.get("email"), root.get("dtNasc"), root.get("cargo"),
+				root.get("salario"), root.get("foto"),
+				departamento.get("id"), departamento.get("nome"), departamento.get("icone")))
+			.where(spec.toPredicate(root, query, cb))
+			.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+		TypedQuery<ColaboradorResumo> consulta = entityManager.createQuery(query);
+		if (pageable.isPaged()) {
+			consulta.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+		}
+		return consulta.getResultList();
+	}
+
+	private void validarOrdenacao(Sort sort) {
+		for (Sort.Order ordem : sort) {
+			if (!CAMPOS_ORDENACAO.contains(ordem.getProperty())) {
+				throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+					"Campo inválido em sort: " + ordem.getProperty());
+			}
+		}
+	}
+
+	// =================== Facetas ===================
+
+	private List<Faceta> contarPorDepartamento(Specification<Colaborador> spec) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<Colaborador> root = query.from(Colaborador.class);
+		Join<Colaborador, Departamento> departamento = root.join("departamento", JoinType.LEFT);
+
+		query.multiselect(departamento.get("id"), departamento.get("nome"), cb.count(root))
+			.where(spec.toPredicate(root, query, cb))
+			.groupBy(departamento.get("id"), departamento.get("nome"))
+			.orderBy(cb.desc(cb.count(root)));
+
+		return entityManager.createQuery(query).getResultStream()
+			.map(t -> new Faceta(t.get(0, Long.class), t.get(1, String.class), t.get(2, Long.class)))
+			.toList();
+	}
+
+	private List<Faceta> contarPorCargo(Specification<Colaborador> spec) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<Colaborador> root = query.from(Colaborador.class);
+
+		query.multiselect(root.get("cargo"), cb.count(root))
+			.where(spec.toPredicate(root, query, cb))
+			.groupBy(root.get("cargo"))
+			.orderBy(cb.desc(cb.count(root)));
+
+		return entityManager.createQuery(query).getResultStream()
+			.map(t -> new Faceta(null, t.get(0, String.class), t.get(1, Long.class)))
+			.toList();
+	}
+}
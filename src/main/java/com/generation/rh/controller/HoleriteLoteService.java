@@ -0,0 +1,235 @@
+package com.generation.rh.controller;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.generation.rh.records.CalculoSalario;
+import com.generation.rh.records.ColaboradorResumo;
+import com.generation.rh.records.Holerite;
+import com.generation.rh.records.TabelaImposto;
+import com.generation.rh.repository.ColaboradorRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Geração de holerites em lote (empresa inteira ou um departamento) como ZIP.
+ * - Colaboradores lidos em blocos de BLOCO por chave (id) como ColaboradorResumo: sem entidades
+ *   gerenciadas, o contexto de persistência (aberto pelo OSIV durante o streaming) não cresce.
+ * - Tabela de impostos resolvida uma vez por ZIP: uma recarga no meio do lote não mistura tabelas.
+ * - Cálculo + renderização HTML em paralelo, com no máximo JANELA documentos em memória.
+ * - Cada documento é escrito no ZIP assim que fica pronto, na ordem de id.
+ * - Em caso de falha o ZIP não é finalizado: o download chega quebrado em vez de truncado e válido.
+ */
+@Service
+public class HoleriteLoteService {
+
+    @Autowired
+    private ColaboradorRepository colaboradorRepository;
+
+    @Autowired
+    private CalcularSalarioService calcularSalarioService;
+
+    @Autowired
+    private TabelaImpostoService tabelaImpostoService;
+
+    private static final int BLOCO = 200;
+
+    private static final int THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    // Máximo de holerites renderizados aguardando escrita no ZIP
+    private static final int JANELA = THREADS * 4;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS, r -> {
+        Thread t = new Thread(r, "holerite-lote");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private record Documento(String nome, byte[] conteudo) {
+    }
+
+    /**
+     * Repassa as escritas até ser interrompida; depois disso descarta tudo (inclusive o
+     * diretório central que o close() do ZipOutputStream escreveria).
+     */
+    private static final class SaidaInterrompivel extends FilterOutputStream {
+
+        private boolean interrompida;
+
+        private SaidaInterrompivel(OutputStream saida) {
+            super(saida);
+        }
+
+        private void interromper() {
+            interrompida = true;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!interrompida) {
+                out.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (!interrompida) {
+                out.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!interrompida) {
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    /**
+     * Escreve no stream um ZIP com um holerite HTML por colaborador.
+     *
+     * @param departamento  ID do departamento (null = empresa inteira)
+     * @param competencia   mês de referência impresso no documento e usado para a tabela de impostos
+     * @param dadosSalario  parâmetros aplicados a todos (horas extras, descontos)
+     */
+    public void gerarZip(Long departamento, YearMonth competencia, CalculoSalario dadosSalario, OutputStream saida)
+            throws IOException {
+
+        TabelaImposto tabela = tabelaImpostoService.buscar(competencia);
+        Deque<Future<Documento>> pendentes = new ArrayDeque<>(JANELA);
+        SaidaInterrompivel destino = new SaidaInterrompivel(saida);
+
+        try (ZipOutputStream zip = new ZipOutputStream(destino, StandardCharsets.UTF_8)) {
+            try {
+                long ultimoId = 0L;
+                List<ColaboradorResumo> bloco;
+
+                while (!(bloco = buscarBloco(departamento, ultimoId)).isEmpty()) {
+                    for (ColaboradorResumo colaborador : bloco) {
+                        if (pendentes.size() == JANELA) {
+                            escrever(zip, pendentes.poll());
+                        }
+                        pendentes.add(executor.submit(() -> renderizar(colaborador, competencia, dadosSalario, tabela)));
+                    }
+                    ultimoId = bloco.get(bloco.size() - 1).id();
+                }
+
+                while (!pendentes.isEmpty()) {
+                    escrever(zip, pendentes.poll());
+                }
+            } catch (IOException | RuntimeException e) {
+                // Sem o diretório central o cliente não recebe um ZIP "válido" pela metade
+                destino.interromper();
+                throw e;
+            }
+        } finally {
+            pendentes.forEach(f -> f.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    // =================== Auxiliares ===================
+
+    private List<ColaboradorResumo> buscarBloco(Long departamento, long ultimoId) {
+        if (departamento == null) {
+            return colaboradorRepository.findResumoByIdGreaterThan(ultimoId, Limit.of(BLOCO));
+        }
+        return colaboradorRepository.findResumoByDepartamentoIdAndIdGreaterThan(departamento, ultimoId, Limit.of(BLOCO));
+    }
+
+    private void escrever(ZipOutputStream zip, Future<Documento> futuro) throws IOException {
+        Documento documento = aguardar(futuro);
+        zip.putNextEntry(new ZipEntry(documento.nome()));
+        zip.write(documento.conteudo());
+        zip.closeEntry();
+        zip.flush();
+    }
+
+    private Documento aguardar(Future<Documento> futuro) throws IOException {
+        try {
+            return futuro.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Geração de holerites interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Falha ao gerar holerite", e.getCause());
+        }
+    }
+
+    private Documento renderizar(ColaboradorResumo colaborador, YearMonth competencia, CalculoSalario dadosSalario,
+            TabelaImposto tabela) {
+        Holerite holerite = calcularSalarioService.calcularSalario(colaborador, dadosSalario, tabela);
+
+        String departamento = colaborador.departamento() != null ? colaborador.departamento().nome() : "-";
+
+        StringBuilder html = new StringBuilder(2048)
+            .append("<!DOCTYPE html><html lang=\"pt-BR\"><head><meta charset=\"UTF-8\">")
+            .append("<title>Holerite ").append(escapar(colaborador.nome())).append("</title>")
+            .append("<style>body{font-family:sans-serif}td{padding:4px 12px}td.v{text-align:right}</style>")
+            .append("</head><body>")
+            .append("<h1>Holerite - ").append(competencia).append("</h1>")
+            .append("<p><b>").append(escapar(colaborador.nome())).append("</b><br>")
+            .append(escapar(colaborador.cargo())).append(" - ").append(escapar(departamento)).append("</p>")
+            .append("<table>");
+
+        linha(html, "Salário base", holerite.salarioBruto());
+        linha(html, "Dias trabalhados", BigDecimal.valueOf(holerite.diasTrabalhados()));
+        linha(html, "Valor hora extra", holerite.valorHoraExtra());
+        linha(html, "Total horas extras", holerite.tHorasExtras());
+        linha(html, "INSS", holerite.inss());
+        linha(html, "IRRF", holerite.irrf());
+        linha(html, "Total de descontos", holerite.tDescontos());
+        linha(html, "Salário líquido", holerite.salarioLiquido());
+
+        html.append("</table></body></html>");
+
+        String nome = "holerite-" + colaborador.id() + "-" + slug(colaborador.nome()) + ".html";
+        return new Documento(nome, html.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void linha(StringBuilder html, String rotulo, BigDecimal valor) {
+        html.append("<tr><td>").append(rotulo).append("</td><td class=\"v\">")
+            .append(valor.toPlainString()).append("</td></tr>");
+    }
+
+    private String escapar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        return texto.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private String slug(String texto) {
+        String semAcento = Normalizer.normalize(texto == null ? "" : texto, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "");
+        return semAcento.toLowerCase().replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+    }
+}
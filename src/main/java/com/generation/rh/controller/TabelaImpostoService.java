@@ -0,0 +1,238 @@
+package com.generation.rh.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.generation.rh.records.Imposto;
+import com.generation.rh.records.TabelaImposto;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Registro das tabelas de INSS/IRRF por vigência (competência a partir da qual valem).
+ * - Arquivos JSON em classpath:impostos/ e, opcionalmente, em app.impostos.diretorio
+ *   (mesma vigência no diretório externo substitui a do classpath).
+ * - Cada carga é validada por inteiro e publicada de uma vez (troca atômica da referência);
+ *   cálculos em andamento continuam com as tabelas que já tinham em mãos.
+ * - Carga inválida na recarga é descartada e as tabelas atuais são mantidas.
+ * - A busca por competência é um floorEntry no mapa de vigências (sem cache por competência).
+ */
+@Service
+public class TabelaImpostoService {
+
+	private static final Logger log = LoggerFactory.getLogger(TabelaImpostoService.class);
+
+	private static final String PADRAO_ARQUIVOS = "*.json";
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Value("${app.impostos.diretorio:}")
+	private String diretorio;
+
+	private final PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+
+	private volatile Tabelas tabelas;
+
+	// Assinatura (nome, tamanho, data) dos arquivos externos da última carga
+	private volatile String assinatura = "";
+
+	/**
+	 * Snapshot imutável das tabelas carregadas.
+	 */
+	private static final class Tabelas {
+
+		private final NavigableMap<YearMonth, TabelaImposto> porVigencia;
+
+		private Tabelas(NavigableMap<YearMonth, TabelaImposto> porVigencia) {
+			this.porVigencia = Collections.unmodifiableNavigableMap(porVigencia);
+		}
+
+		private TabelaImposto buscar(YearMonth competencia) {
+			Map.Entry<YearMonth, TabelaImposto> vigente = porVigencia.floorEntry(competencia);
+			if (vigente == null) {
+				throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+					"Não há tabela de impostos vigente para a competência " + competencia);
+			}
+			return vigente.getValue();
+		}
+	}
+
+	@PostConstruct
+	public void iniciar() {
+		this.assinatura = assinaturaDiretorio();
+		this.tabelas = carregar();
+		log.info("Tabelas de impostos carregadas: {}", tabelas.porVigencia.keySet());
+	}
+
+	/**
+	 * Tabela vigente na competência informada (a de maior vigência <= competência).
+	 */
+	public TabelaImposto buscar(YearMonth competencia) {
+		return tabelas.buscar(competencia);
+	}
+
+	@Scheduled(fixedDelayString = "${app.impostos.intervalo-verificacao-ms:30000}")
+	public void recarregarSeAlterado() {
+		String atual = assinaturaDiretorio();
+		if (!atual.equals(assinatura)) {
+			assinatura = atual;
+			recarregar();
+		}
+	}
+
+	public synchronized void recarregar() {
+		try {
+			Tabelas novas = carregar();
+			tabelas = novas;
+			log.info("Tabelas de impostos recarregadas: {}", novas.porVigencia.keySet());
+		} catch (RuntimeException e) {
+			log.error("Recarga das tabelas de impostos ignorada, mantendo as atuais: {}", e.getMessage());
+		}
+	}
+
+	// =================== Carga e validação ===================
+
+	private Tabelas carregar() {
+		NavigableMap<YearMonth, TabelaImposto> porVigencia = new TreeMap<>();
+
+		for (Resource arquivo : listar("classpath:impostos/" + PADRAO_ARQUIVOS)) {
+			TabelaImposto tabela = ler(arquivo);
+			if (porVigencia.put(tabela.vigencia(), tabela) != null) {
+				throw new IllegalStateException("Vigência repetida em classpath:impostos: " + tabela.vigencia());
+			}
+		}
+
+		// Diretório externo sobrescreve/complementa as tabelas empacotadas
+		if (temDiretorio()) {
+			Map<YearMonth, TabelaImposto> externas = new TreeMap<>();
+			for (Resource arquivo : listar(localDiretorio())) {
+				TabelaImposto tabela = ler(arquivo);
+				if (externas.put(tabela.vigencia(), tabela) != null) {
+					throw new IllegalStateException("Vigência repetida em " + diretorio + ": " + tabela.vigencia());
+				}
+			}
+			porVigencia.putAll(externas);
+		}
+
+		if (porVigencia.isEmpty()) {
+			throw new IllegalStateException("Nenhuma tabela de impostos encontrada");
+		}
+		return new Tabelas(porVigencia);
+	}
+
+	private TabelaImposto ler(Resource arquivo) {
+		try (InputStream in = arquivo.getInputStream()) {
+			TabelaImposto lida = objectMapper.readValue(in, TabelaImposto.class);
+			return validar(lida, arquivo.getFilename());
+		} catch (IOException e) {
+			throw new IllegalStateException("Tabela de impostos ilegível: " + arquivo.getFilename(), e);
+		}
+	}
+
+	private TabelaImposto validar(TabelaImposto tabela, String arquivo) {
+		if (tabela.vigencia() == null) {
+			throw new IllegalStateException(arquivo + ": vigência obrigatória");
+		}
+		List<Imposto> inss = validarFaixas(tabela.inss(), arquivo + " (INSS)");
+		List<Imposto> irrf = validarFaixas(tabela.irrf(), arquivo + " (IRRF)");
+
+		// INSS precisa de teto; IRRF precisa de uma última faixa sem limite
+		if (inss.get(inss.size() - 1).limite() == null) {
+			throw new IllegalStateException(arquivo + " (INSS): a última faixa deve ter limite (teto)");
+		}
+		if (irrf.get(irrf.size() - 1).limite() != null) {
+			throw new IllegalStateException(arquivo + " (IRRF): a última faixa deve ser sem limite");
+		}
+		return new TabelaImposto(tabela.vigencia(), inss, irrf);
+	}
+
+	private List<Imposto> validarFaixas(List<Imposto> faixas, String origem) {
+		if (faixas == null || faixas.isEmpty()) {
+			throw new IllegalStateException(origem + ": nenhuma faixa informada");
+		}
+
+		BigDecimal anterior = BigDecimal.ZERO;
+		for (int i = 0; i < faixas.size(); i++) {
+			Imposto faixa = faixas.get(i);
+			boolean ultima = i == faixas.size() - 1;
+
+			if (faixa.aliquota() == null || faixa.deducao() == null) {
+				throw new IllegalStateException(origem + ": faixa " + (i + 1) + " sem alíquota ou dedução");
+			}
+			if (faixa.aliquota().signum() < 0 || faixa.aliquota().compareTo(new BigDecimal("100")) > 0
+					|| faixa.deducao().signum() < 0) {
+				throw new IllegalStateException(origem + ": faixa " + (i + 1) + " com valores fora do intervalo");
+			}
+			if (faixa.limite() == null) {
+				if (!ultima) {
+					throw new IllegalStateException(origem + ": só a última faixa pode ser sem limite");
+				}
+			} else if (faixa.limite().compareTo(anterior) <= 0) {
+				throw new IllegalStateException(origem + ": limites devem ser crescentes");
+			} else {
+				anterior = faixa.limite();
+			}
+		}
+		return List.copyOf(faixas);
+	}
+
+	// =================== Arquivos ===================
+
+	private boolean temDiretorio() {
+		return diretorio != null && !diretorio.isBlank();
+	}
+
+	private String localDiretorio() {
+		return "file:" + diretorio + (diretorio.endsWith("/") ? "" : "/") + PADRAO_ARQUIVOS;
+	}
+
+	private List<Resource> listar(String padrao) {
+		try {
+			List<Resource> arquivos = new ArrayList<>(List.of(resolver.getResources(padrao)));
+			arquivos.removeIf(r -> !r.exists());
+			arquivos.sort(Comparator.comparing(r -> String.valueOf(r.getFilename())));
+			return arquivos;
+		} catch (IOException e) {
+			throw new IllegalStateException("Não foi possível listar " + padrao, e);
+		}
+	}
+
+	private String assinaturaDiretorio() {
+		if (!temDiretorio()) {
+			return "";
+		}
+		StringBuilder sb = new StringBuilder();
+		for (Resource arquivo : listar(localDiretorio())) {
+			try {
+				sb.append(arquivo.getFilename()).append(':')
+					.append(arquivo.contentLength()).append(':')
+					.append(arquivo.lastModified()).append(';');
+			} catch (IOException e) {
+				sb.append(arquivo.getFilename()).append(":?;");
+			}
+		}
+		return sb.toString();
+	}
+}
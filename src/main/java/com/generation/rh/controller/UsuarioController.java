@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.generation.rh.model.Usuario;
@@ -25,12 +27,20 @@ public class UsuarioController {
 	@Autowired
 	private UsuarioRepository usuarioRepository;
 	
+	@Autowired
+	private CamposService camposService;
+	
 	@GetMapping
-	public ResponseEntity<List<Usuario>> getAll(){
-		return ResponseEntity.ok(usuarioRepository.findAll());
+	@Transactional(readOnly = true)
+	public ResponseEntity<List<?>> getAll(@RequestParam(required = false) String fields){
+		if (fields != null) {
+			return ResponseEntity.ok(camposService.listar(Usuario.class, CamposService.CAMPOS_USUARIO, fields));
+		}
+		return ResponseEntity.ok(usuarioRepository.findAllResumo());
 	}
 	
 	@GetMapping("/{id}")
+	@Transactional(readOnly = true)
 	public ResponseEntity<Usuario> getById(@PathVariable Long id){
 		return usuarioRepository.findById(id)
 				.map(resposta -> ResponseEntity.ok(resposta))
@@ -38,6 +48,7 @@ public class UsuarioController {
 	}
 	
 	@GetMapping("/nome/{nome}")	
+	@Transactional(readOnly = true)
 	public ResponseEntity<Object> getByNome(@PathVariable String nome){
 		return ResponseEntity.ok(usuarioRepository.findByNomeContainingIgnoreCase(nome));
 	}
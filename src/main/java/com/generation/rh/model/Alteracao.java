@@ -0,0 +1,87 @@
+package com.generation.rh.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Registro append-only de alterações em colaboradores e departamentos.
+ * A sequência (em ordem de commit, ver SequenciaAlteracao) é o cursor do feed GET /alteracoes?since=.
+ * O id IDENTITY não serve de cursor: é atribuído no INSERT, e uma transação que começou antes
+ * pode commitar depois de outra com id maior.
+ */
+@Entity
+@Table(name = "tb_alteracoes", indexes = {
+    @Index(name = "idx_alteracao_sequencia", columnList = "sequencia", unique = true),
+    @Index(name = "idx_alteracao_entidade_sequencia", columnList = "entidade, sequencia")
+})
+public class Alteracao {
+
+	public enum Entidade { COLABORADOR, DEPARTAMENTO }
+
+	public enum Operacao { INSERT, UPDATE, DELETE }
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false, updatable = false)
+	private Long sequencia;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20, updatable = false)
+	private Entidade entidade;
+
+	@Column(name = "entidade_id", nullable = false, updatable = false)
+	private Long entidadeId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 10, updatable = false)
+	private Operacao operacao;
+
+	@Column(name = "data_hora", nullable = false, updatable = false)
+	private LocalDateTime dataHora;
+
+	protected Alteracao() {
+	}
+
+	public Alteracao(long sequencia, Entidade entidade, Long entidadeId, Operacao operacao) {
+		this.sequencia = sequencia;
+		this.entidade = entidade;
+		this.entidadeId = entidadeId;
+		this.operacao = operacao;
+		this.dataHora = LocalDateTime.now();
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Long getSequencia() {
+		return sequencia;
+	}
+
+	public Entidade getEntidade() {
+		return entidade;
+	}
+
+	public Long getEntidadeId() {
+		return entidadeId;
+	}
+
+	public Operacao getOperacao() {
+		return operacao;
+	}
+
+	public LocalDateTime getDataHora() {
+		return dataHora;
+	}
+}
@@ -3,6 +3,7 @@ package com.generation.rh.model;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import jakarta.persistence.Column;
@@ -10,6 +11,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Digits;
@@ -20,9 +22,18 @@ import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 
 @Entity
-@Table(name = "tb_colaboradores")
+@Table(name = "tb_colaboradores", indexes = {
+    // Índices compostos que atendem o filtro combinado (ColaboradorSpecification)
+    @Index(name = "idx_colaborador_depto_cargo_salario", columnList = "departamento_id, cargo, salario"),
+    @Index(name = "idx_colaborador_cargo_salario", columnList = "cargo, salario"),
+    @Index(name = "idx_colaborador_dt_nasc", columnList = "dt_nasc"),
+    @Index(name = "idx_colaborador_nome", columnList = "nome")
+})
 public class Colaborador {
 
+    // Jornada padrão de 44h semanais (220h mensais)
+    public static final int HORAS_MENSAIS = 220;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -117,8 +128,8 @@ public class Colaborador {
 		this.departamento = departamento;
 	}
 
-	public char[] getHorasMensais() {
-		// TODO Auto-generated method stub
-		return null;
+	@JsonIgnore
+	public int getHorasMensais() {
+		return HORAS_MENSAIS;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.generation.rh.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Contador (linha única) da sequência do log de alterações.
+ * Lido com SELECT ... FOR UPDATE dentro da transação que registra a alteração: a trava só é
+ * liberada no commit, então a ordem da sequência é a ordem de commit.
+ * A linha só é criada por SequenciaAlteracaoRepository.inserirSeAusente (nunca por save/merge,
+ * que poderia sobrescrever o valor de uma linha já existente).
+ */
+@Entity
+@Table(name = "tb_sequencia_alteracoes")
+public class SequenciaAlteracao {
+
+	public static final Long ID = 1L;
+
+	@Id
+	private Long id;
+
+	@Column(nullable = false)
+	private long valor;
+
+	protected SequenciaAlteracao() {
+	}
+
+	/**
+	 * Reserva as próximas quantidade posições e devolve a primeira.
+	 */
+	public long reservar(int quantidade) {
+		long primeira = valor + 1;
+		valor += quantidade;
+		return primeira;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public long getValor() {
+		return valor;
+	}
+}
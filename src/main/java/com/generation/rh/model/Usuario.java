@@ -1,5 +1,7 @@
 package com.generation.rh.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -29,6 +31,7 @@ public class Usuario {
 	
 	@NotBlank(message = "A senha do usuário é obrigatória.")
 	@Size(min = 8, message = "A senha deve ter no mínimo 8 caracteres.")
+	@JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
 	private String senha;
 	
 	public Long getId() {
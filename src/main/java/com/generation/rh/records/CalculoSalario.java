@@ -1,11 +1,13 @@
 package com.generation.rh.records;
 
 import java.math.BigDecimal;
+import java.time.YearMonth;
 
 public record CalculoSalario(
 		
 		int tHorasExtras,
 		BigDecimal valorHora,
-		BigDecimal descontos) {
+		BigDecimal descontos,
+		YearMonth competencia) {
 	
 }
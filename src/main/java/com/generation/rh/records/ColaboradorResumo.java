@@ -0,0 +1,24 @@
+package com.generation.rh.records;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ColaboradorResumo(
+
+		Long id,
+		String nome,
+		String email,
+		LocalDate dtNasc,
+		String cargo,
+		BigDecimal salario,
+		String foto,
+		DepartamentoResumo departamento) {
+
+	// Construtor usado pelo "select new" das consultas (colunas planas do join)
+	public ColaboradorResumo(Long id, String nome, String email, LocalDate dtNasc, String cargo,
+			BigDecimal salario, String foto, Long departamentoId, String departamentoNome, String departamentoIcone) {
+		this(id, nome, email, dtNasc, cargo, salario, foto,
+				departamentoId == null ? null : new DepartamentoResumo(departamentoId, departamentoNome, departamentoIcone));
+	}
+
+}
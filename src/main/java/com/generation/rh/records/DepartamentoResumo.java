@@ -0,0 +1,8 @@
+package com.generation.rh.records;
+
+public record DepartamentoResumo(
+		Long id,
+		String nome,
+		String icone) {
+
+}
@@ -0,0 +1,8 @@
+package com.generation.rh.records;
+
+public record Faceta(
+		Long id,
+		String nome,
+		long total) {
+
+}
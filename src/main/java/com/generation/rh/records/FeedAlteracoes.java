@@ -0,0 +1,13 @@
+package com.generation.rh.records;
+
+import java.util.List;
+
+import com.generation.rh.model.Alteracao;
+
+public record FeedAlteracoes(
+
+		List<Alteracao> alteracoes,
+		Long proximoCursor,
+		boolean temMais) {
+
+}
@@ -0,0 +1,27 @@
+package com.generation.rh.records;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record FiltroColaborador(
+
+		Long departamento,
+		String cargo,
+		BigDecimal salarioMin,
+		BigDecimal salarioMax,
+		LocalDate nascimentoDe,
+		LocalDate nascimentoAte,
+		Integer idadeMin,
+		Integer idadeMax,
+		String nome) {
+
+	// Facetas: cada uma é contada sem o próprio critério
+	public FiltroColaborador semDepartamento() {
+		return new FiltroColaborador(null, cargo, salarioMin, salarioMax, nascimentoDe, nascimentoAte, idadeMin, idadeMax, nome);
+	}
+
+	public FiltroColaborador semCargo() {
+		return new FiltroColaborador(departamento, null, salarioMin, salarioMax, nascimentoDe, nascimentoAte, idadeMin, idadeMax, nome);
+	}
+
+}
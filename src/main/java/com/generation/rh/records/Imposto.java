@@ -1,8 +1,10 @@
 package com.generation.rh.records;
 
+import java.math.BigDecimal;
+
 public record Imposto(
-		double limite,
-		double aliquota,
-		double deducao) {
+		BigDecimal limite, // null = sem limite (última faixa do IRRF)
+		BigDecimal aliquota,
+		BigDecimal deducao) {
 
 }
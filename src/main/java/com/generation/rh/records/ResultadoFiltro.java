@@ -0,0 +1,15 @@
+package com.generation.rh.records;
+
+import java.util.List;
+
+public record ResultadoFiltro<T>(
+
+		List<T> conteudo,
+		int pagina,
+		int tamanho,
+		long totalElementos,
+		int totalPaginas,
+		List<Faceta> departamentos,
+		List<Faceta> cargos) {
+
+}
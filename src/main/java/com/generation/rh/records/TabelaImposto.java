@@ -0,0 +1,12 @@
+package com.generation.rh.records;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public record TabelaImposto(
+
+		YearMonth vigencia,
+		List<Imposto> inss,
+		List<Imposto> irrf) {
+
+}
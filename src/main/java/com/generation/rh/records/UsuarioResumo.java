@@ -0,0 +1,9 @@
+package com.generation.rh.records;
+
+public record UsuarioResumo(
+		Long id,
+		String nome,
+		String email,
+		String foto) {
+
+}
@@ -0,0 +1,20 @@
+package com.generation.rh.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.generation.rh.model.Alteracao;
+
+public interface AlteracaoRepository extends JpaRepository<Alteracao, Long> {
+
+	List<Alteracao> findBySequenciaGreaterThanOrderBySequenciaAsc(Long sequencia, Limit limite);
+
+	List<Alteracao> findByEntidadeAndSequenciaGreaterThanOrderBySequenciaAsc(Alteracao.Entidade entidade, Long sequencia,
+			Limit limite);
+
+	@Query("select coalesce(max(a.sequencia), 0) from Alteracao a")
+	long findMaxSequencia();
+}
@@ -2,12 +2,37 @@ package com.generation.rh.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.generation.rh.model.Colaborador;
+import com.generation.rh.records.ColaboradorResumo;
 
-public interface ColaboradorRepository extends JpaRepository<Colaborador, Long> {
+public interface ColaboradorRepository extends JpaRepository<Colaborador, Long>, JpaSpecificationExecutor<Colaborador> {
 
 	List<Colaborador> findAllByNomeContainingIgnoreCase(@Param("nome")String nome);
+
+	String SELECT_RESUMO = "select new com.generation.rh.records.ColaboradorResumo("
+			+ "c.id, c.nome, c.email, c.dtNasc, c.cargo, c.salario, c.foto, d.id, d.nome, d.icone) "
+			+ "from Colaborador c left join c.departamento d ";
+
+	@Query(SELECT_RESUMO + "order by c.id")
+	List<ColaboradorResumo> findAllResumo();
+
+	@Query(SELECT_RESUMO + "where lower(c.nome) like lower(concat('%', :nome, '%')) order by c.id")
+	List<ColaboradorResumo> findAllResumoByNome(@Param("nome") String nome);
+
+	// Paginação por chave (id > último lido), usada na geração de holerites em lote
+	@Query(SELECT_RESUMO + "where c.id > :id order by c.id")
+	List<ColaboradorResumo> findResumoByIdGreaterThan(@Param("id") Long id, Limit limite);
+
+	@Query(SELECT_RESUMO + "where d.id = :departamentoId and c.id > :id order by c.id")
+	List<ColaboradorResumo> findResumoByDepartamentoIdAndIdGreaterThan(@Param("departamentoId") Long departamentoId,
+			@Param("id") Long id, Limit limite);
+
+	@Query("select c.id from Colaborador c where c.departamento.id = :departamentoId")
+	List<Long> findIdsByDepartamentoId(@Param("departamentoId") Long departamentoId);
 }
@@ -0,0 +1,100 @@
+package com.generation.rh.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.generation.rh.model.Colaborador;
+import com.generation.rh.records.FiltroColaborador;
+
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Monta a Specification do filtro combinado de colaboradores.
+ * Só entram na consulta os critérios informados, na ordem dos índices compostos
+ * declarados em Colaborador (departamento, cargo, salário / data de nascimento).
+ */
+public final class ColaboradorSpecification {
+
+	private ColaboradorSpecification() {
+	}
+
+	public static Specification<Colaborador> filtrar(FiltroColaborador filtro) {
+		return (root, query, cb) -> {
+			List<Predicate> predicados = new ArrayList<>();
+
+			if (filtro.departamento() != null) {
+				predicados.add(cb.equal(root.get("departamento").get("id"), filtro.departamento()));
+			}
+
+			if (temTexto(filtro.cargo())) {
+				predicados.add(cb.equal(root.get("cargo"), filtro.cargo().trim()));
+			}
+
+			if (filtro.salarioMin() != null) {
+				predicados.add(cb.greaterThanOrEqualTo(root.get("salario"), filtro.salarioMin()));
+			}
+
+			if (filtro.salarioMax() != null) {
+				predicados.add(cb.lessThanOrEqualTo(root.get("salario"), filtro.salarioMax()));
+			}
+
+			LocalDate nascimentoDe = maisRecente(filtro.nascimentoDe(), nascidoAntesDe(filtro.idadeMax()));
+			LocalDate nascimentoAte = maisAntiga(filtro.nascimentoAte(), nascidoAte(filtro.idadeMin()));
+
+			if (nascimentoDe != null) {
+				predicados.add(cb.greaterThanOrEqualTo(root.get("dtNasc"), nascimentoDe));
+			}
+
+			if (nascimentoAte != null) {
+				predicados.add(cb.lessThanOrEqualTo(root.get("dtNasc"), nascimentoAte));
+			}
+
+			// Prefixo sem lower(): a collation padrão do MySQL já é case-insensitive
+			// e assim o índice de nome continua sendo usado.
+			if (temTexto(filtro.nome())) {
+				predicados.add(cb.like(root.get("nome"), escaparLike(filtro.nome().trim()) + "%", '\\'));
+			}
+
+			return cb.and(predicados.toArray(Predicate[]::new));
+		};
+	}
+
+	// =================== Auxiliares ===================
+
+	/**
+	 * Idade mínima N: nasceu até hoje − N anos.
+	 */
+	private static LocalDate nascidoAte(Integer idadeMin) {
+		return idadeMin == null ? null : LocalDate.now().minusYears(idadeMin);
+	}
+
+	/**
+	 * Idade máxima N: nasceu depois de hoje − (N + 1) anos.
+	 */
+	private static LocalDate nascidoAntesDe(Integer idadeMax) {
+		return idadeMax == null ? null : LocalDate.now().minusYears(idadeMax + 1L).plusDays(1);
+	}
+
+	private static LocalDate maisRecente(LocalDate a, LocalDate b) {
+		if (a == null) return b;
+		if (b == null) return a;
+		return a.isAfter(b) ? a : b;
+	}
+
+	private static LocalDate maisAntiga(LocalDate a, LocalDate b) {
+		if (a == null) return b;
+		if (b == null) return a;
+		return a.isBefore(b) ? a : b;
+	}
+
+	private static boolean temTexto(String valor) {
+		return valor != null && !valor.isBlank();
+	}
+
+	private static String escaparLike(String valor) {
+		return valor.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+}
@@ -3,11 +3,31 @@ package com.generation.rh.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.generation.rh.model.Departamento;
+import com.generation.rh.records.DepartamentoResumo;
 
 public interface DepartamentoRepository extends JpaRepository<Departamento, Long> {
 
 	List<Departamento> findAllByNomeContainingIgnoreCase(String nome);
-	
+
+	String SELECT_RESUMO = "select new com.generation.rh.records.DepartamentoResumo(d.id, d.nome, d.icone) "
+			+ "from Departamento d ";
+
+	@Query(SELECT_RESUMO + "order by d.id")
+	List<DepartamentoResumo> findAllResumo();
+
+	@Query(SELECT_RESUMO + "where lower(d.nome) like lower(concat('%', :nome, '%')) order by d.id")
+	List<DepartamentoResumo> findAllResumoByNome(@Param("nome") String nome);
+
+	// Com a lista de colaboradores (?colaboradores=true): uma consulta só, sem N+1
+	@Query("select distinct d from Departamento d left join fetch d.colaborador order by d.id")
+	List<Departamento> findAllComColaboradores();
+
+	@Query("select distinct d from Departamento d left join fetch d.colaborador "
+			+ "where lower(d.nome) like lower(concat('%', :nome, '%')) order by d.id")
+	List<Departamento> findAllComColaboradoresByNome(@Param("nome") String nome);
+
 }
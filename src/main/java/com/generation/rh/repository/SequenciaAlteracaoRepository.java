@@ -0,0 +1,31 @@
+package com.generation.rh.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.generation.rh.model.SequenciaAlteracao;
+
+import jakarta.persistence.LockModeType;
+
+public interface SequenciaAlteracaoRepository extends JpaRepository<SequenciaAlteracao, Long> {
+
+	// SELECT ... FOR UPDATE: segura a linha até o fim da transação
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select s from SequenciaAlteracao s where s.id = :id")
+	Optional<SequenciaAlteracao> findByIdParaAtualizar(@Param("id") Long id);
+
+	// Cria a linha continuando do maior registro, só se ela ainda não existir (nunca sobrescreve o valor).
+	// Duas instâncias ao mesmo tempo: a segunda recebe violação de chave, tratada como "já criada".
+	@Modifying
+	@Transactional
+	@Query(value = "INSERT INTO tb_sequencia_alteracoes (id, valor) "
+			+ "SELECT :id, (SELECT COALESCE(MAX(a.sequencia), 0) FROM tb_alteracoes a) FROM DUAL "
+			+ "WHERE NOT EXISTS (SELECT 1 FROM tb_sequencia_alteracoes s WHERE s.id = :id)", nativeQuery = true)
+	int inserirSeAusente(@Param("id") Long id);
+}
@@ -1,14 +1,20 @@
 package com.generation.rh.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.generation.rh.model.Usuario;
+import com.generation.rh.records.UsuarioResumo;
 
 public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
 
 	public Optional<Usuario> findByNomeContainingIgnoreCase(String nome);
 
+	@Query("select new com.generation.rh.records.UsuarioResumo(u.id, u.nome, u.email, u.foto) from Usuario u order by u.id")
+	public List<UsuarioResumo> findAllResumo();
+
 
 }
@@ -0,0 +1,113 @@
+package com.generation.rh.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BulkheadTests {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void encerrar() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void rejeitaImediatamenteComFilaCheia() {
+		Bulkhead bulkhead = new Bulkhead("teste", new BulkheadProperties.Limite(1, 0, Duration.ofSeconds(3)), registry);
+		bulkhead.adquirir();
+
+		BulkheadSaturadoException ex = assertThrows(BulkheadSaturadoException.class, bulkhead::adquirir);
+
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS, ex.getStatusCode());
+		assertEquals("3", ex.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+		assertEquals(1.0, registry.get("rh.bulkhead.rejeicoes").tag("motivo", "fila_cheia").counter().count());
+	}
+
+	@Test
+	void rejeitaAposEsperaNaFila() {
+		Bulkhead bulkhead = new Bulkhead("teste", new BulkheadProperties.Limite(1, 1, Duration.ofMillis(50)), registry);
+		bulkhead.adquirir();
+
+		assertThrows(BulkheadSaturadoException.class, bulkhead::adquirir);
+
+		assertEquals(1.0, registry.get("rh.bulkhead.rejeicoes").tag("motivo", "timeout").counter().count());
+		assertEquals(0.0, registry.get("rh.bulkhead.fila").gauge().value());
+	}
+
+	@Test
+	void aguardaNaFilaAtePermissaoSerLiberada() throws Exception {
+		Bulkhead bulkhead = new Bulkhead("teste", new BulkheadProperties.Limite(1, 1, Duration.ofSeconds(5)), registry);
+		CountDownLatch ocupado = new CountDownLatch(1);
+		CountDownLatch liberar = new CountDownLatch(1);
+
+		executor.submit(() -> bulkhead.executar(() -> {
+			ocupado.countDown();
+			try {
+				liberar.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return null;
+		}));
+		ocupado.await(1, TimeUnit.SECONDS);
+
+		var segunda = executor.submit(() -> bulkhead.executar(() -> "ok"));
+		liberar.countDown();
+
+		assertEquals("ok", segunda.get(2, TimeUnit.SECONDS));
+		assertEquals(0.0, registry.get("rh.bulkhead.em.uso").gauge().value());
+	}
+
+	@Test
+	void liberacaoUnicaDevolveUmaPermissaoSo() {
+		Bulkhead bulkhead = new Bulkhead("teste", new BulkheadProperties.Limite(2, 0, Duration.ZERO), registry);
+		bulkhead.adquirir();
+		bulkhead.adquirir();
+
+		Runnable liberar = bulkhead.liberacaoUnica();
+		liberar.run();
+		liberar.run();
+
+		assertEquals(1.0, registry.get("rh.bulkhead.em.uso").gauge().value());
+	}
+
+	@Test
+	void quemChegaDepoisNaoPassaNaFrenteDaFila() throws Exception {
+		Bulkhead bulkhead = new Bulkhead("teste", new BulkheadProperties.Limite(1, 1, Duration.ofSeconds(2)), registry);
+		bulkhead.adquirir();
+
+		AtomicReference<Thread> naFila = new AtomicReference<>();
+		CountDownLatch adquiriu = new CountDownLatch(1);
+		executor.submit(() -> {
+			naFila.set(Thread.currentThread());
+			bulkhead.adquirir();
+			adquiriu.countDown();
+		});
+		while (naFila.get() == null || naFila.get().getState() != Thread.State.TIMED_WAITING) {
+			Thread.sleep(5);
+		}
+
+		// A permissão liberada é da requisição que já esperava, não de quem chega agora
+		bulkhead.liberar();
+		assertThrows(BulkheadSaturadoException.class, bulkhead::adquirir);
+		assertTrue(adquiriu.await(1, TimeUnit.SECONDS));
+	}
+}
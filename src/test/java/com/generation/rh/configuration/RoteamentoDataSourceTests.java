@@ -0,0 +1,98 @@
+package com.generation.rh.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.generation.rh.model.Colaborador;
+import com.generation.rh.records.ColaboradorResumo;
+import com.generation.rh.repository.ColaboradorRepository;
+import com.zaxxer.hikari.HikariDataSource;
+
+@SpringBootTest
+@ActiveProfiles({ "test", "replica" })
+class RoteamentoDataSourceTests {
+
+	@Autowired
+	private HikariDataSource primarioDataSource;
+
+	@Autowired
+	private HikariDataSource replicaDataSource;
+
+	@Autowired
+	private ReplicaMonitor replicaMonitor;
+
+	@Autowired
+	private ColaboradorRepository colaboradorRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	// Cada banco com um colaborador diferente: o nome lido mostra de onde veio a leitura
+	@BeforeEach
+	void popular() {
+		colaboradorRepository.deleteAllInBatch();
+		colaboradorRepository.save(colaborador("No primário"));
+
+		new ResourceDatabasePopulator(new ClassPathResource("replica-schema.sql")).execute(replicaDataSource);
+		JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+		replica.update("DELETE FROM tb_colaboradores");
+		replica.update("INSERT INTO tb_colaboradores (id, nome, email, dt_nasc, cargo, salario) "
+				+ "VALUES (1, 'Na réplica', 'replica@rh.com', DATE '1990-01-01', 'Analista', 3000.00)");
+	}
+
+	@AfterEach
+	void restaurarReplica() {
+		replicaMonitor.verificar();
+	}
+
+	@Test
+	void leituraReadOnlyVaiParaReplica() {
+		assertEquals(List.of("Na réplica"), lerNomes(true));
+	}
+
+	@Test
+	void escritaVaiParaPrimario() {
+		assertEquals(List.of("No primário"), lerNomes(false));
+	}
+
+	@Test
+	void replicaIndisponivelCaiNoPrimario() {
+		replicaMonitor.marcarIndisponivel(new SQLException("teste"));
+
+		assertEquals(List.of("No primário"), lerNomes(true));
+	}
+
+	private List<String> lerNomes(boolean readOnly) {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setReadOnly(readOnly);
+		return template.execute(status -> colaboradorRepository.findAllResumo().stream()
+				.map(ColaboradorResumo::nome)
+				.toList());
+	}
+
+	private Colaborador colaborador(String nome) {
+		Colaborador colaborador = new Colaborador();
+		colaborador.setNome(nome);
+		colaborador.setEmail("primario@rh.com");
+		colaborador.setCargo("Analista");
+		colaborador.setDtNasc(LocalDate.of(1990, 1, 1));
+		colaborador.setSalario(new BigDecimal("3000.00"));
+		return colaborador;
+	}
+}
@@ -0,0 +1,133 @@
+package com.generation.rh.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.generation.rh.model.Alteracao;
+import com.generation.rh.model.Alteracao.Entidade;
+import com.generation.rh.model.Alteracao.Operacao;
+import com.generation.rh.model.SequenciaAlteracao;
+import com.generation.rh.records.FeedAlteracoes;
+import com.generation.rh.repository.AlteracaoRepository;
+import com.generation.rh.repository.SequenciaAlteracaoRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AlteracaoServiceTests {
+
+	@Autowired
+	private AlteracaoService alteracaoService;
+
+	@Autowired
+	private AlteracaoRepository alteracaoRepository;
+
+	@Autowired
+	private SequenciaAlteracaoRepository sequenciaRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private long cursor;
+
+	@BeforeEach
+	void posicionarCursor() {
+		cursor = alteracaoRepository.findMaxSequencia();
+	}
+
+	@Test
+	void transacaoQueCommitaPorUltimoNaoFicaAtrasDoCursor() throws Exception {
+		CountDownLatch registrouPrimeira = new CountDownLatch(1);
+		CountDownLatch liberarPrimeira = new CountDownLatch(1);
+
+		// T1 registra a alteração e segura o commit
+		CompletableFuture<Void> primeira = CompletableFuture.runAsync(() -> new TransactionTemplate(transactionManager)
+			.executeWithoutResult(status -> {
+				alteracaoService.registrar(Entidade.COLABORADOR, 1L, Operacao.UPDATE);
+				registrouPrimeira.countDown();
+				aguardar(liberarPrimeira);
+			}));
+		assertTrue(registrouPrimeira.await(10, TimeUnit.SECONDS));
+
+		// T2 começa depois e tenta commitar antes de T1
+		CompletableFuture<Void> segunda = CompletableFuture.runAsync(() -> new TransactionTemplate(transactionManager)
+			.executeWithoutResult(status -> alteracaoService.registrar(Entidade.COLABORADOR, 2L, Operacao.UPDATE)));
+		Thread.sleep(300);
+
+		// Com o id como cursor, T2 já apareceria aqui e o cursor pularia a alteração de T1
+		List<Long> vistos = new ArrayList<>(ler());
+		assertFalse(segunda.isDone());
+
+		liberarPrimeira.countDown();
+		primeira.get(10, TimeUnit.SECONDS);
+		segunda.get(10, TimeUnit.SECONDS);
+
+		vistos.addAll(ler());
+		assertEquals(List.of(1L, 2L), vistos);
+	}
+
+	@Test
+	void criarSequenciaNaoSobrescreveValorExistente() {
+		registrar(3L);
+		jdbcTemplate.update("UPDATE tb_sequencia_alteracoes SET valor = valor + 10");
+		long valor = valorSequencia();
+
+		alteracaoService.iniciarSequencia();
+		assertEquals(valor, valorSequencia());
+
+		// O contador continua de onde estava: nunca volta para o maior registro
+		registrar(4L);
+		assertEquals(valor + 1, alteracaoRepository.findMaxSequencia());
+	}
+
+	@Test
+	void sequenciaAusenteComecaDoMaiorRegistro() {
+		registrar(5L);
+		jdbcTemplate.update("DELETE FROM tb_sequencia_alteracoes");
+
+		registrar(6L);
+		assertEquals(cursor + 2, alteracaoRepository.findMaxSequencia());
+		assertEquals(cursor + 2, valorSequencia());
+	}
+
+	private void registrar(Long entidadeId) {
+		new TransactionTemplate(transactionManager)
+			.executeWithoutResult(status -> alteracaoService.registrar(Entidade.COLABORADOR, entidadeId, Operacao.UPDATE));
+	}
+
+	private long valorSequencia() {
+		return sequenciaRepository.findById(SequenciaAlteracao.ID).orElseThrow().getValor();
+	}
+
+	private List<Long> ler() {
+		FeedAlteracoes feed = alteracaoService.buscar(cursor, Entidade.COLABORADOR, null);
+		cursor = feed.proximoCursor();
+		return feed.alteracoes().stream().map(Alteracao::getEntidadeId).toList();
+	}
+
+	private static void aguardar(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
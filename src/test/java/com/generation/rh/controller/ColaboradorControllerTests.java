@@ -0,0 +1,50 @@
+package com.generation.rh.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ColaboradorControllerTests {
+
+	// Executor das requisições assíncronas do MVC que nunca roda as tarefas recebidas
+	@MockitoBean(name = "applicationTaskExecutor")
+	private ThreadPoolTaskExecutor applicationTaskExecutor;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MeterRegistry registry;
+
+	@Test
+	void loteDevolvePermissaoMesmoSemOCorpoRodar() throws Exception {
+		MvcResult resultado = mockMvc.perform(post("/colaboradores/holerites/lote").param("competencia", "2025-06"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		assertEquals(1.0, emUso());
+
+		// Conclusão da requisição pelo container (timeout/erro) sem o streaming ter começado
+		resultado.getRequest().getAsyncContext().complete();
+
+		assertEquals(0.0, emUso());
+	}
+
+	private double emUso() {
+		return registry.get("rh.bulkhead.em.uso").tag("bulkhead", "lote").gauge().value();
+	}
+}
@@ -0,0 +1,87 @@
+package com.generation.rh.controller;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.generation.rh.model.Colaborador;
+import com.generation.rh.model.Departamento;
+import com.generation.rh.repository.ColaboradorRepository;
+import com.generation.rh.repository.DepartamentoRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DepartamentoControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ColaboradorRepository colaboradorRepository;
+
+	@Autowired
+	private DepartamentoRepository departamentoRepository;
+
+	@BeforeEach
+	void popular() {
+		colaboradorRepository.deleteAllInBatch();
+		departamentoRepository.deleteAllInBatch();
+		Departamento ti = departamento("TI");
+		departamento("RH");
+		colaborador("Ana", ti);
+		colaborador("Bia", ti);
+	}
+
+	@Test
+	void listaSemColaboradoresPorPadrao() throws Exception {
+		mockMvc.perform(get("/departamentos"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$", hasSize(2)))
+			.andExpect(jsonPath("$[0].colaborador").doesNotExist());
+	}
+
+	@Test
+	void listaComColaboradoresQuandoPedido() throws Exception {
+		mockMvc.perform(get("/departamentos").param("colaboradores", "true"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$", hasSize(2)))
+			.andExpect(jsonPath("$[0].colaborador[*].nome", containsInAnyOrder("Ana", "Bia")))
+			.andExpect(jsonPath("$[1].colaborador", hasSize(0)));
+
+		mockMvc.perform(get("/departamentos/nome/ti").param("colaboradores", "true"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$", hasSize(1)))
+			.andExpect(jsonPath("$[0].colaborador", hasSize(2)));
+	}
+
+	private Departamento departamento(String nome) {
+		Departamento departamento = new Departamento();
+		departamento.setNome(nome);
+		return departamentoRepository.save(departamento);
+	}
+
+	private void colaborador(String nome, Departamento departamento) {
+		Colaborador colaborador = new Colaborador();
+		colaborador.setNome(nome);
+		colaborador.setEmail(nome.toLowerCase() + "@rh.com");
+		colaborador.setCargo("Analista");
+		colaborador.setDtNasc(LocalDate.of(1990, 1, 1));
+		colaborador.setSalario(new BigDecimal("3000.00"));
+		colaborador.setDepartamento(departamento);
+		colaboradorRepository.save(colaborador);
+	}
+}
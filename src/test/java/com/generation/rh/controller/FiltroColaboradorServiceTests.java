@@ -0,0 +1,145 @@
+package com.generation.rh.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.generation.rh.model.Colaborador;
+import com.generation.rh.model.Departamento;
+import com.generation.rh.records.ColaboradorResumo;
+import com.generation.rh.records.Faceta;
+import com.generation.rh.records.FiltroColaborador;
+import com.generation.rh.records.ResultadoFiltro;
+import com.generation.rh.repository.ColaboradorRepository;
+import com.generation.rh.repository.DepartamentoRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FiltroColaboradorServiceTests {
+
+	private static final PageRequest PAGINA = PageRequest.of(0, 20, Sort.by("nome"));
+
+	@Autowired
+	private FiltroColaboradorService filtroColaboradorService;
+
+	@Autowired
+	private ColaboradorRepository colaboradorRepository;
+
+	@Autowired
+	private DepartamentoRepository departamentoRepository;
+
+	private Departamento ti;
+	private Departamento rh;
+
+	@BeforeEach
+	void limpar() {
+		colaboradorRepository.deleteAllInBatch();
+		departamentoRepository.deleteAllInBatch();
+		ti = departamento("TI");
+		rh = departamento("RH");
+	}
+
+	@Test
+	void idadeConsideraAniversarioNoProprioDia() {
+		LocalDate hoje = LocalDate.now();
+		colaborador("Ana", ti, "Dev", hoje.minusYears(30));                // faz 30 hoje
+		colaborador("Bia", ti, "Dev", hoje.minusYears(30).plusDays(1));    // 29, faz 30 amanhã
+		colaborador("Caio", ti, "Dev", hoje.minusYears(31).plusDays(1));   // 30, faz 31 amanhã
+		colaborador("Duda", ti, "Dev", hoje.minusYears(31));               // faz 31 hoje
+
+		assertEquals(List.of("Ana", "Caio"), nomes(filtro(null, null, 30, 30)));
+		assertEquals(List.of("Ana", "Bia", "Caio"), nomes(filtro(null, null, null, 30)));
+		assertEquals(List.of("Ana", "Caio", "Duda"), nomes(filtro(null, null, 30, null)));
+	}
+
+	@Test
+	void facetaIgnoraOProprioCriterio() {
+		colaborador("Ana", ti, "Dev", LocalDate.of(1990, 1, 1));
+		colaborador("Bia", ti, "Dev", LocalDate.of(1990, 1, 1));
+		colaborador("Caio", ti, "QA", LocalDate.of(1990, 1, 1));
+		colaborador("Duda", rh, "Dev", LocalDate.of(1990, 1, 1));
+
+		ResultadoFiltro<ColaboradorResumo> porDepartamento =
+				filtroColaboradorService.filtrar(filtro(ti.getId(), null, null, null), PAGINA);
+		assertEquals(3, porDepartamento.totalElementos());
+		assertEquals(Map.of("TI", 3L, "RH", 1L), totais(porDepartamento.departamentos()));
+		assertEquals(Map.of("Dev", 2L, "QA", 1L), totais(porDepartamento.cargos()));
+
+		ResultadoFiltro<ColaboradorResumo> porCargo =
+				filtroColaboradorService.filtrar(filtro(null, "Dev", null, null), PAGINA);
+		assertEquals(3, porCargo.totalElementos());
+		assertEquals(Map.of("TI", 2L, "RH", 1L), totais(porCargo.departamentos()));
+		assertEquals(Map.of("Dev", 3L, "QA", 1L), totais(porCargo.cargos()));
+	}
+
+	@Test
+	void paginaNoBancoComTotais() {
+		for (String nome : List.of("Eva", "Ana", "Duda", "Caio", "Bia")) {
+			colaborador(nome, ti, "Dev", LocalDate.of(1990, 1, 1));
+		}
+
+		ResultadoFiltro<ColaboradorResumo> resultado = filtroColaboradorService.filtrar(filtro(null, null, null, null),
+				PageRequest.of(1, 2, Sort.by("nome")));
+
+		assertEquals(List.of("Caio", "Duda"), nomes(resultado));
+		assertEquals(1, resultado.pagina());
+		assertEquals(2, resultado.tamanho());
+		assertEquals(5, resultado.totalElementos());
+		assertEquals(3, resultado.totalPaginas());
+	}
+
+	@Test
+	void ordenacaoDesconhecidaDa400() {
+		ResponseStatusException erro = assertThrows(ResponseStatusException.class,
+				() -> filtroColaboradorService.filtrar(filtro(null, null, null, null), PageRequest.of(0, 20, Sort.by("xyz"))));
+		assertEquals(HttpStatus.BAD_REQUEST, erro.getStatusCode());
+	}
+
+	private FiltroColaborador filtro(Long departamento, String cargo, Integer idadeMin, Integer idadeMax) {
+		return new FiltroColaborador(departamento, cargo, null, null, null, null, idadeMin, idadeMax, null);
+	}
+
+	private List<String> nomes(FiltroColaborador filtro) {
+		return nomes(filtroColaboradorService.filtrar(filtro, PAGINA));
+	}
+
+	private List<String> nomes(ResultadoFiltro<ColaboradorResumo> resultado) {
+		return resultado.conteudo().stream().map(ColaboradorResumo::nome).toList();
+	}
+
+	private Map<String, Long> totais(List<Faceta> facetas) {
+		return facetas.stream().collect(Collectors.toMap(Faceta::nome, Faceta::total));
+	}
+
+	private Departamento departamento(String nome) {
+		Departamento departamento = new Departamento();
+		departamento.setNome(nome);
+		return departamentoRepository.save(departamento);
+	}
+
+	private void colaborador(String nome, Departamento departamento, String cargo, LocalDate dtNasc) {
+		Colaborador colaborador = new Colaborador();
+		colaborador.setNome(nome);
+		colaborador.setEmail(nome.toLowerCase() + "@rh.com");
+		colaborador.setCargo(cargo);
+		colaborador.setDtNasc(dtNasc);
+		colaborador.setSalario(new BigDecimal("3000.00"));
+		colaborador.setDepartamento(departamento);
+		colaboradorRepository.save(colaborador);
+	}
+}
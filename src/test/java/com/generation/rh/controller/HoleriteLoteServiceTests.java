@@ -0,0 +1,149 @@
+package com.generation.rh.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.generation.rh.model.Colaborador;
+import com.generation.rh.records.CalculoSalario;
+import com.generation.rh.repository.ColaboradorRepository;
+import com.generation.rh.repository.DepartamentoRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class HoleriteLoteServiceTests {
+
+	// Mais de um bloco de leitura (200)
+	private static final int TOTAL = 450;
+
+	private static final YearMonth COMPETENCIA = YearMonth.of(2025, 6);
+
+	@Autowired
+	private HoleriteLoteService holeriteLoteService;
+
+	@Autowired
+	private ColaboradorRepository colaboradorRepository;
+
+	@Autowired
+	private DepartamentoRepository departamentoRepository;
+
+	@MockitoSpyBean
+	private CalcularSalarioService calcularSalarioService;
+
+	@MockitoSpyBean
+	private TabelaImpostoService tabelaImpostoService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@BeforeEach
+	void popular() {
+		colaboradorRepository.deleteAllInBatch();
+		departamentoRepository.deleteAllInBatch();
+		colaboradorRepository.saveAll(IntStream.rangeClosed(1, TOTAL).mapToObj(this::colaborador).toList());
+	}
+
+	@Test
+	void geraUmHoleritePorColaboradorEmVariosBlocos() throws IOException {
+		ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+		// Mesma situação do OSIV: um contexto de persistência aberto durante todo o streaming
+		int gerenciadas = new TransactionTemplate(transactionManager).execute(status -> {
+			try {
+				holeriteLoteService.gerarZip(null, COMPETENCIA, dados(COMPETENCIA), saida);
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+			return entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+		});
+
+		List<Long> ids = colaboradorRepository.findAll().stream().map(Colaborador::getId).sorted().toList();
+		List<Long> entradas = new ArrayList<>();
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(saida.toByteArray()))) {
+			ZipEntry entrada;
+			while ((entrada = zip.getNextEntry()) != null) {
+				entradas.add(Long.valueOf(entrada.getName().split("-")[1]));
+			}
+		}
+
+		assertEquals(ids, entradas);
+		assertEquals(0, gerenciadas);
+
+		// Uma tabela de impostos para o ZIP inteiro
+		verify(tabelaImpostoService, times(1)).buscar(COMPETENCIA);
+	}
+
+	@Test
+	void falhaNoMeioDoLoteNaoFinalizaOZip() {
+		ByteArrayOutputStream saida = new ByteArrayOutputStream();
+		doThrow(new IllegalStateException("falha de teste")).when(calcularSalarioService)
+			.calcularSalario(argThat(c -> c != null && c.nome().equals("Colaborador 300")), any(), any());
+
+		assertThrows(IOException.class, () -> holeriteLoteService.gerarZip(null, COMPETENCIA, dados(COMPETENCIA), saida));
+
+		// Holerites anteriores já foram enviados, mas sem o fim do diretório central (PK\5\6)
+		assertTrue(saida.size() > 0);
+		String bytes = HexFormat.of().formatHex(saida.toByteArray());
+		assertFalse(bytes.contains("504b0506"));
+	}
+
+	@Test
+	void competenciaSemTabelaFalhaAntesDeEscrever() {
+		ByteArrayOutputStream saida = new ByteArrayOutputStream();
+		YearMonth semTabela = YearMonth.of(2024, 1);
+
+		assertThrows(ResponseStatusException.class,
+				() -> holeriteLoteService.gerarZip(null, semTabela, dados(semTabela), saida));
+		assertEquals(0, saida.size());
+	}
+
+	private CalculoSalario dados(YearMonth competencia) {
+		return new CalculoSalario(0, null, null, competencia);
+	}
+
+	private Colaborador colaborador(int i) {
+		Colaborador colaborador = new Colaborador();
+		colaborador.setNome("Colaborador " + i);
+		colaborador.setEmail("colaborador" + i + "@rh.com");
+		colaborador.setCargo("Analista");
+		colaborador.setDtNasc(LocalDate.of(1990, 1, 1));
+		colaborador.setSalario(new BigDecimal("3500.00"));
+		return colaborador;
+	}
+}
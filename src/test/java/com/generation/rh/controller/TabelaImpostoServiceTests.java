@@ -0,0 +1,78 @@
+package com.generation.rh.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+class TabelaImpostoServiceTests {
+
+	@TempDir
+	Path diretorio;
+
+	private TabelaImpostoService service;
+
+	@BeforeEach
+	void iniciar() {
+		service = new TabelaImpostoService();
+		ReflectionTestUtils.setField(service, "objectMapper", JsonMapper.builder().findAndAddModules().build());
+		ReflectionTestUtils.setField(service, "diretorio", diretorio.toString());
+		service.iniciar();
+	}
+
+	@Test
+	void usaTabelaVigenteNaCompetencia() {
+		assertEquals(YearMonth.of(2025, 1), service.buscar(YearMonth.of(2025, 7)).vigencia());
+		assertThrows(ResponseStatusException.class, () -> service.buscar(YearMonth.of(2024, 12)));
+	}
+
+	@Test
+	void recarregaNovaVigenciaSemAfetarCompetenciasAnteriores() throws IOException {
+		Files.writeString(diretorio.resolve("2026-01.json"), tabela("2026-01", "1600.00"));
+
+		service.recarregarSeAlterado();
+
+		assertEquals(YearMonth.of(2025, 1), service.buscar(YearMonth.of(2025, 12)).vigencia());
+		assertEquals(new BigDecimal("1600.00"), service.buscar(YearMonth.of(2026, 3)).inss().get(0).limite());
+	}
+
+	@Test
+	void mantemTabelasAtuaisQuandoArquivoEhInvalido() throws IOException {
+		Files.writeString(diretorio.resolve("2026-01.json"), tabela("2026-01", "1600.00"));
+		service.recarregarSeAlterado();
+
+		// Limites fora de ordem no INSS
+		Files.writeString(diretorio.resolve("2026-01.json"), tabela("2026-01", "90000.00"));
+		service.recarregarSeAlterado();
+
+		assertEquals(new BigDecimal("1600.00"), service.buscar(YearMonth.of(2026, 3)).inss().get(0).limite());
+	}
+
+	private String tabela(String vigencia, String primeiroLimiteInss) {
+		return """
+			{
+			  "vigencia": "%s",
+			  "inss": [
+			    { "limite": %s, "aliquota": 7.5, "deducao": 0.00 },
+			    { "limite": 8500.00, "aliquota": 14.0, "deducao": 260.00 }
+			  ],
+			  "irrf": [
+			    { "limite": 2500.00, "aliquota": 0.0, "deducao": 0.00 },
+			    { "limite": null, "aliquota": 27.5, "deducao": 900.00 }
+			  ]
+			}
+			""".formatted(vigencia, primeiroLimiteInss);
+	}
+}
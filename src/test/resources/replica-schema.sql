@@ -0,0 +1,17 @@
+-- O ddl-auto só cria as tabelas no primário; a réplica recebe as tabelas lidas nos testes
+CREATE TABLE IF NOT EXISTS tb_departamentos (
+	id BIGINT PRIMARY KEY,
+	nome VARCHAR(255),
+	icone VARCHAR(5000)
+);
+
+CREATE TABLE IF NOT EXISTS tb_colaboradores (
+	id BIGINT PRIMARY KEY,
+	nome VARCHAR(255),
+	email VARCHAR(255),
+	dt_nasc DATE,
+	cargo VARCHAR(255),
+	salario DECIMAL(12, 2),
+	foto VARCHAR(5000),
+	departamento_id BIGINT
+);